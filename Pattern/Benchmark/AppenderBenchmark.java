@@ -0,0 +1,97 @@
+package Benchmark;
+
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import Singleton.ConsoleSink;
+import Singleton.LogSink;
+import Singleton.MemoryRingSink;
+import Singleton.NullSink;
+import Singleton.OverflowPolicy;
+import Singleton.Singleton;
+import Singleton.StreamSink;
+import Singleton.WaitStrategy;
+
+// Imp- Caller side cost of one appender next to the file sink, the file sink itself is a NullSink so only the appender shows
+// SLOW_CONSOLE stalls on every write (a piped terminal whose reader lags), with DROP_NEWEST the caller must stay as fast as CONSOLE
+// Run from the Pattern folder with jmh-core and jmh-generator-annprocess on the classpath : java Benchmark.AppenderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppenderBenchmark {
+    public enum AppenderType {NONE, NULL, MEMORY, CONSOLE, SLOW_CONSOLE, FILE}
+
+    @Param({"NONE", "NULL", "MEMORY", "CONSOLE", "SLOW_CONSOLE", "FILE"})
+    public AppenderType appenderType;
+
+    @Param({"DROP_NEWEST", "BLOCK"})
+    public OverflowPolicy overflowPolicy;
+
+    private Singleton singleton;
+    private LogSink appender;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        singleton = Singleton.getInstance(1);
+        singleton.setConsoleEcho(false);
+        singleton.useSink(new NullSink());
+        appender = switch(appenderType) {
+            case NONE -> null;
+            case NULL -> new NullSink();
+            case MEMORY -> new MemoryRingSink(1 << 12);
+            case CONSOLE -> new ConsoleSink(new PrintStream(OutputStream.nullOutputStream()));     // Real console output would flood the JMH log
+            case SLOW_CONSOLE -> new ConsoleSink(new PrintStream(new SlowStream()));
+            case FILE -> new StreamSink(new FileOutputStream("Singleton/appender-benchmark.log"));
+        };
+        if(appender != null)
+            singleton.addAppender(appender, Singleton.DEFAULT_APPENDER_CAPACITY, WaitStrategy.BLOCKING, overflowPolicy);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if(appender != null)
+            System.out.println(appenderType + " dropped " + singleton.droppedLogCount(appender) + " lines");
+        singleton.close();
+    }
+
+    @Benchmark public void log() {singleton.log("user {} logged in from port {}", counter++, 8080);}
+
+    // Discards the bytes after a 50 microsecond stall per write
+    private static final class SlowStream extends OutputStream {
+        @Override public void write(int b) {LockSupport.parkNanos(50_000);}
+
+        @Override public void write(byte b[], int off, int len) {LockSupport.parkNanos(50_000);}
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(AppenderBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,21 @@
+package Benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Imp - Shapes of input data the strategies are measured on (sorting and heaps behave very differently on each)
+public enum DataDistribution {
+    RANDOM, SORTED, REVERSE_SORTED, ALL_EQUAL;
+
+    public int[] generate(int size, long seed) {
+        Random random = new Random(seed);       // Fixed seed so every fork and strategy sees the same data
+        int nums[] = new int[size];
+        switch(this) {
+            case RANDOM -> {for(int i = 0; i < size; i++) nums[i] = random.nextInt();}
+            case SORTED -> {for(int i = 0; i < size; i++) nums[i] = i;}
+            case REVERSE_SORTED -> {for(int i = 0; i < size; i++) nums[i] = size - i;}
+            case ALL_EQUAL -> Arrays.fill(nums, random.nextInt());
+        }
+        return nums;
+    }
+}
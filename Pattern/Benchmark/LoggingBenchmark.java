@@ -0,0 +1,65 @@
+package Benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import Singleton.FsyncPolicy;
+import Singleton.Singleton;
+
+// Imp- Cost per Singleton.log call in the default setup (console echo on), template and CharSequence overloads must report gc.alloc.rate.norm = 0 B/op
+// Run from the Pattern folder (LOG_FILE is relative) with jmh-core and jmh-generator-annprocess on the classpath : java Benchmark.LoggingBenchmark
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+    private final StringBuilder message = new StringBuilder("request served from cache");
+    private Singleton singleton;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));     // Default configuration, the console echo stays on but prints nowhere
+        singleton = Singleton.getInstance(1);
+        singleton.enableGroupCommit(1 << 20, 100, FsyncPolicy.NEVER, 0);      // Group commit, so the numbers show formatting rather than syscalls
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        singleton.close();
+    }
+
+    @Benchmark public void template() {singleton.log("user {} logged in from port {}", counter++, 8080);}
+
+    @Benchmark public void charSequence() {singleton.log(message);}
+
+    // Baseline, the concatenation callers used to do before the parameterized overload
+    @Benchmark public void concatenated() {singleton.log("user " + counter++ + " logged in from port " + 8080);}
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(LoggingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,84 @@
+package Benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import Strategy.SegmentTreeMax;
+import Strategy.SparseTableMax;
+import Strategy.VectorStrategy;
+
+// Imp- Counter array workload, one point update followed by a maximum query, indexed structures against a full vector pass
+// Run with jmh-core and jmh-generator-annprocess on the classpath : java Benchmark.RangeMaxBenchmark
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dstrategy.quiet=true", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+public class RangeMaxBenchmark {
+    @Param({"100000", "10000000"})
+    public int size;
+
+    @Param({"1000"})
+    public int rangeLength;
+
+    private int counters[];
+    private SegmentTreeMax segmentTree;
+    private SparseTableMax sparseTable;     // Around n * log2(n) ints, 1 GB at 10^7
+    private final VectorStrategy vectorStrategy = new VectorStrategy();
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        counters = DataDistribution.RANDOM.generate(size, 42);
+        segmentTree = new SegmentTreeMax(counters);
+        sparseTable = new SparseTableMax(counters);
+    }
+
+    @Benchmark
+    public int segmentTreeUpdateAndMax() {
+        segmentTree.update(random.nextInt(size), random.nextInt());
+        return segmentTree.max();
+    }
+
+    // Imp- What every change costs today, a write and then a whole maxElement pass (the vector one, the fastest of them)
+    @Benchmark
+    public int rescanUpdateAndMax() {
+        counters[random.nextInt(size)] = random.nextInt();
+        return vectorStrategy.maxElement(counters, 0, size);
+    }
+
+    @Benchmark
+    public int segmentTreeRange() {
+        int from = random.nextInt(size - rangeLength);
+        return segmentTree.rangeMax(from, from + rangeLength);
+    }
+
+    @Benchmark
+    public int sparseTableRange() {
+        int from = random.nextInt(size - rangeLength);
+        return sparseTable.rangeMax(from, from + rangeLength);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RangeMaxBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
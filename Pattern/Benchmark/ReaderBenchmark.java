@@ -0,0 +1,82 @@
+package Benchmark;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import Reader.FastReader;
+
+// Imp- Parsing a whitespace separated integer dump, FastReader against the BufferedReader + StringTokenizer idiom it replaces
+// The dump sits in memory so the numbers show parsing only, run with jmh-core and jmh-generator-annprocess on the classpath
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReaderBenchmark {
+    @Param({"1000000", "10000000"})
+    public int count;
+
+    private byte dump[];
+    private int dst[];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder text = new StringBuilder(count * 12);
+        for(int i = 0; i < count; i++)
+            text.append(random.nextInt()).append(i % 16 == 15 ? '\n' : ' ');
+        dump = text.toString().getBytes(StandardCharsets.US_ASCII);
+        dst = new int[count];
+    }
+
+    @Benchmark
+    public int fastReader() {
+        FastReader reader = new FastReader(Channels.newChannel(new ByteArrayInputStream(dump)));
+        reader.readInts(dst);
+        return dst[count - 1];
+    }
+
+    @Benchmark
+    public int tokenizer() throws Exception {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(dump), StandardCharsets.US_ASCII));
+        int index = 0;
+        String line;
+        while((line = reader.readLine()) != null) {
+            StringTokenizer tokens = new StringTokenizer(line);
+            while(tokens.hasMoreTokens())
+                dst[index++] = Integer.parseInt(tokens.nextToken());
+        }
+        return dst[count - 1];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ReaderBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
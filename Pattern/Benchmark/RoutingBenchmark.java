@@ -0,0 +1,60 @@
+package Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import Strategy.RoutingType;
+import Strategy.Strategy;
+import Strategy.StrategyRouting;
+
+// Imp- Measures the cost of StrategyRouting itself, every route points to a constant time strategy so only dispatch is left
+// Run with jmh-core and jmh-generator-annprocess on the classpath : java Benchmark.RoutingBenchmark
+// Imp- byName and byType must report gc.alloc.rate.norm = 0 B/op, any allocation on the dispatch path shows up there
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Dstrategy.quiet=true"})
+public class RoutingBenchmark {
+    private final Strategy firstElement = nums -> nums[0];
+    private final int nums[] = {7, 3, 9, 1, 5};
+    private StrategyRouting routing;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        routing = new StrategyRouting(firstElement, firstElement);
+        for(RoutingType type : RoutingType.values())
+            routing.register(type, firstElement);
+    }
+
+    @Benchmark public int direct() {return firstElement.maxElement(nums);}      // Baseline without any routing
+
+    @Benchmark public int byName() {return routing.evaluateStrategy(nums, "heapify");}
+
+    @Benchmark public int byType() {return routing.evaluateStrategy(nums, RoutingType.HEAPIFY);}
+
+    @Benchmark public int automatic() {return routing.evaluateStrategy(nums);}
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RoutingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,72 @@
+package Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import Strategy.RoutingType;
+import Strategy.SlidingWindowMax;
+import Strategy.Strategy;
+
+// Imp- Maximum of every window, the monotonic deque (SLIDING_WINDOW) against rescanning each window (any other route)
+// Run with jmh-core and jmh-generator-annprocess on the classpath : java Benchmark.SlidingWindowBenchmark
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dstrategy.quiet=true", "--add-modules", "jdk.incubator.vector"})
+public class SlidingWindowBenchmark {
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"16", "256", "4096"})
+    public int window;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED"})
+    public DataDistribution distribution;
+
+    @Param({"SLIDING_WINDOW", "HEAPIFY"})
+    public RoutingType type;
+
+    private int input[];
+    private Strategy strategy;
+    private SlidingWindowMax rolling;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        input = distribution.generate(size, 42);
+        strategy = StrategyBenchmark.create(type);
+        rolling = new SlidingWindowMax(window);
+    }
+
+    @Benchmark public int[] windowMaxima() {return strategy.windowMaxima(input, window);}
+
+    // Imp- Dashboard shape, one sample in and the current rolling maximum out, must report gc.alloc.rate.norm = 0 B/op
+    @Benchmark public int rollingSample() {
+        rolling.accept(input[(int) (rolling.count() % size)]);
+        return rolling.result();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(SlidingWindowBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
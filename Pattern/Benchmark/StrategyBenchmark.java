@@ -0,0 +1,97 @@
+package Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import Strategy.HeapStrategy;
+import Strategy.ParallelStrategy;
+import Strategy.QuickSelectStrategy;
+import Strategy.RoutingType;
+import Strategy.SlidingWindowStrategy;
+import Strategy.SortingStrategy;
+import Strategy.Strategy;
+import Strategy.VectorStrategy;
+
+// Imp- JMH harness comparing every Strategy over input sizes and data distributions
+// Run with jmh-core and jmh-generator-annprocess on the classpath : java Benchmark.StrategyBenchmark
+// Imp- At 10^8 the input and work arrays take 800 MB and a strategy's primitive copy (IntMaxHeap, scratch buffer) up to 400 MB more,
+// growing that copy briefly holds the old array too, -Xmx4g covers the roughly 2 GB peak with room so GC time stays out of the scores
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Dstrategy.quiet=true", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+public class StrategyBenchmark {
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "ALL_EQUAL"})
+    public DataDistribution distribution;
+
+    @Param({"HEAPIFY", "SORTING", "VECTOR", "PARALLEL", "QUICKSELECT", "SLIDING_WINDOW"})
+    public RoutingType type;
+
+    private int input[];
+    private int work[];
+    private Strategy strategy;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        input = distribution.generate(size, 42);
+        work = new int[size];
+        strategy = create(type);
+    }
+
+    // Imp- SortingStrategy sorts its argument, so every strategy gets a fresh copy and copyOnly measures that baseline
+    @Benchmark public int maxElement() {
+        System.arraycopy(input, 0, work, 0, size);
+        return strategy.maxElement(work);
+    }
+
+    // Imp- Dashboard query shape, the top 100 (or the whole array when it is smaller)
+    @Benchmark public int[] topK() {
+        System.arraycopy(input, 0, work, 0, size);
+        return strategy.topK(work, Math.min(100, size));
+    }
+
+    @Benchmark public int copyOnly() {
+        System.arraycopy(input, 0, work, 0, size);
+        return work[size - 1];
+    }
+
+    // Imp- New routing types must be added here, the benchmark fails fast instead of silently skipping them
+    static Strategy create(RoutingType type) {
+        return switch(type) {
+            case HEAPIFY -> new HeapStrategy();
+            case SORTING -> new SortingStrategy();
+            case VECTOR -> new VectorStrategy();
+            case PARALLEL -> new ParallelStrategy();
+            case QUICKSELECT -> new QuickSelectStrategy();
+            case SLIDING_WINDOW -> new SlidingWindowStrategy(Integer.MAX_VALUE);     // Window covering any input, so it answers the same question
+        };
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(StrategyBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)      // Reports gc.alloc.rate and gc.alloc.rate.norm (bytes per call)
+            .build()).run();
+    }
+}
@@ -0,0 +1,187 @@
+package Reader;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+// Imp- Input reader for large integer dumps, the channel fills a direct buffer and numbers are parsed straight from the bytes
+// No StringTokenizer, no String per token, nextInt()/nextLong()/readInts() allocate nothing after construction
+public class FastReader implements Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+    private static final long LONG_LIMIT = Long.MIN_VALUE / 10;       // Accumulator values at or below this need the exact overflow check
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;        // Direct, the channel reads into it without a temporary copy of its own
+    private final byte bytes[];         // Each chunk copied out in bulk, parsing indexes a plain array
+    private int position, limit;        // Unread bytes are bytes[position, limit)
+    private boolean afterToken;         // Last token ended inside a line, nextLine() returns the rest of it
+    private byte line[] = new byte[128];       // Reused by nextLine() and next()
+
+    // Standard input as a FileChannel, reads go straight into the direct buffer without an intermediate heap array
+    public FastReader() {this(new FileInputStream(FileDescriptor.in).getChannel());}
+
+    public FastReader(Path file) throws IOException {this(FileChannel.open(file, StandardOpenOption.READ));}
+
+    public FastReader(ReadableByteChannel channel) {this(channel, DEFAULT_BUFFER_SIZE);}
+
+    public FastReader(ReadableByteChannel channel, int bufferSize) {
+        if(bufferSize < 1)
+            throw new IllegalArgumentException("Buffer size must be positive");
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.bytes = new byte[bufferSize];
+    }
+
+    // Imp- Next byte or -1 at the end of the input, refills the buffer once it is consumed
+    private int read() {
+        if(position == limit && !fill())    return -1;
+        return bytes[position++] & 0xFF;
+    }
+
+    private boolean fill() {
+        try {
+            buffer.clear();
+            int count;
+            do {
+                count = channel.read(buffer);
+            } while(count == 0);        // Non blocking channels may return nothing yet
+            position = 0;
+            limit = buffer.flip().remaining();
+            buffer.get(bytes, 0, limit);
+            return limit > 0;
+        } catch (IOException e) {throw new UncheckedIOException(e);}
+    }
+
+    // First byte of the next token, or -1 when only whitespace is left
+    private int skipWhitespace() {
+        byte data[] = bytes;
+        int p = position;
+        while(true) {
+            if(p == limit) {
+                if(!fill())     return -1;
+                p = 0;
+            }
+            int c = data[p++] & 0xFF;
+            if(c > ' ') {
+                position = p;
+                return c;
+            }
+        }
+    }
+
+    public boolean hasNext() {
+        int c = skipWhitespace();
+        if(c == -1)     return false;
+        position--;     // The byte came from the buffer just now, stepping back un-reads it
+        return true;
+    }
+
+    public int nextInt() {
+        long value = nextLong();
+        if(value != (int) value)
+            throw new InputMismatchException("Out of int range : " + value);
+        return (int) value;
+    }
+
+    // Imp- Accumulates negatively like Long.parseLong, so Long.MIN_VALUE parses without overflow
+    public long nextLong() {
+        int c = skipWhitespace();
+        if(c == -1)     throw new NoSuchElementException("End of input");
+        boolean negative = c == '-';
+        if(negative || c == '+')    c = read();
+        if(c < '0' || c > '9')
+            throw new InputMismatchException("Not a number, found byte " + c);
+        long result = '0' - c;
+        byte data[] = bytes;        // Hot loop on locals, the fields are only written back when the buffer runs out
+        int p = position, end = limit;
+        while(true) {
+            if(p == end) {
+                position = p;
+                p = 0;      // fill() starts over at the front, or leaves an empty buffer at the end of the input
+                if(!fill()) {
+                    c = -1;
+                    break;
+                }
+                end = limit;
+            }
+            c = data[p++] & 0xFF;
+            int digit = c - '0';
+            if(digit < 0 || digit > 9)  break;
+            if(result <= LONG_LIMIT && (result < LONG_LIMIT || digit > 8))
+                throw new InputMismatchException("Out of long range");
+            result = result * 10 - digit;
+        }
+        position = p;
+        if(c > ' ')
+            throw new InputMismatchException("Not a number, found byte " + c);
+        afterToken = c != '\n' && c != -1;
+        if(!negative && result == Long.MIN_VALUE)
+            throw new InputMismatchException("Out of long range");
+        return negative ? result : -result;
+    }
+
+    // Imp- Fills dst with the next integers, returns how many were read (less than dst.length only at the end of the input)
+    public int readInts(int dst[]) {return readInts(dst, 0, dst.length);}
+
+    public int readInts(int dst[], int offset, int length) {
+        if(offset < 0 || length < 0 || offset > dst.length - length)
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length) + ") of " + dst.length);
+        int count = 0;
+        while(count < length && hasNext())
+            dst[offset + count++] = nextInt();
+        return count;
+    }
+
+    // Next whitespace separated token, decoded as UTF-8
+    public String next() {
+        int c = skipWhitespace();
+        if(c == -1)     throw new NoSuchElementException("End of input");
+        int length = 0;
+        do {
+            length = put(length, c);
+        } while((c = read()) > ' ');
+        afterToken = c != '\n' && c != -1;
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    // Imp- Rest of the current line after a token (when it is not blank), otherwise the next whole line, null at the end of the input
+    public String nextLine() {
+        int c = read();
+        if(afterToken) {
+            afterToken = false;
+            while(c == ' ' || c == '\t')    c = read();
+            if(c == '\r')   c = read();
+            if(c == '\n')   c = read();         // Blank remainder, the caller wants the following line
+        }
+        if(c == -1)     return null;
+        int length = 0;
+        while(c != -1 && c != '\n') {
+            length = put(length, c);
+            c = read();
+        }
+        if(length > 0 && line[length - 1] == '\r')  length--;
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private int put(int length, int c) {
+        if(length == line.length)   line = Arrays.copyOf(line, length << 1);
+        line[length] = (byte) c;
+        return length + 1;
+    }
+
+    @Override public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {e.printStackTrace();}
+    }
+}
@@ -0,0 +1,147 @@
+package Singleton;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Imp- Producers only publish into the ring buffer, a single background thread drains it in batches into the sink
+public class AsyncLogWriter implements LogPublisher {
+    private static final int MAX_BATCH = 1024;     // Lines handed to the sink between two endBatch() calls at most
+    private final RingBuffer ring;      // Encoded lines, copied into reusable slots
+    private final WaitStrategy waitStrategy;
+    private final LogSink sink;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int sampleThreshold;
+    private final String spillFile;
+    private final LogSink spillSink;        // Only opened for the SPILL policy
+    private final LongAdder dropped = new LongAdder();     // LongAdder, so counting under a spike does not add contention
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();     // Producers currently inside publish()
+    private volatile boolean closed;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private volatile boolean sleeping;      // Writer is (about to be) parked by the BLOCKING strategy, the next publish unparks it
+
+    public AsyncLogWriter(LogSink sink, int capacity, WaitStrategy waitStrategy) {
+        this(sink, capacity, waitStrategy, OverflowPolicy.BLOCK, 1, null);
+    }
+
+    // Imp- sampleRate is used by SAMPLE, spillFile by SPILL, both are ignored by the other policies
+    public AsyncLogWriter(LogSink sink, int capacity, WaitStrategy waitStrategy, OverflowPolicy overflowPolicy, int sampleRate, String spillFile) {
+        if(overflowPolicy == OverflowPolicy.SAMPLE && sampleRate < 1)
+            throw new IllegalArgumentException("Sample rate must be positive");
+        this.ring = new RingBuffer(capacity);
+        this.waitStrategy = waitStrategy;
+        this.sink = sink;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.sampleThreshold = capacity - (capacity >> 2);
+        this.spillFile = spillFile;
+        this.spillSink = overflowPolicy == OverflowPolicy.SPILL ? openSpill(spillFile) : null;
+        this.writerThread = new Thread(this::drain, "singleton-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    private static LogSink openSpill(String file) {
+        try {
+            return new StreamSink(new FileOutputStream(file, true));
+        } catch (IOException e) {throw new IllegalStateException("Cannot open spill file " + file, e);}
+    }
+
+    @Override public boolean publish(String line) {
+        byte bytes[] = line.getBytes(StandardCharsets.UTF_8);
+        return publish(bytes, 0, bytes.length);
+    }
+
+    // Imp- Request threads only pay for a CAS and a copy into the slot's own array, a full buffer is handled by the overflow policy
+    @Override public boolean publish(byte line[], int offset, int length) {
+        inFlight.increment();       // Before reading closed, so close() either sees this producer or the producer sees closed
+        try {
+            if(closed)  return false;
+            offer(line, offset, length);
+            if(sleeping)    LockSupport.unpark(writerThread);       // One volatile read per line, the unpark only happens after an idle period
+            return true;
+        } finally {inFlight.decrement();}
+    }
+
+    private void offer(byte line[], int offset, int length) {
+        switch(overflowPolicy) {
+            case BLOCK -> {
+                while(!ring.offer(line, offset, length))
+                    waitStrategy.idle();
+            }
+            case DROP_NEWEST -> {
+                if(!ring.offer(line, offset, length))   dropped.increment();
+            }
+            case DROP_OLDEST -> {
+                while(!ring.offer(line, offset, length))        // Producers may also consume, the ring buffer is safe for several consumers
+                    if(ring.skip())     dropped.increment();
+            }
+            case SAMPLE -> {
+                if(ring.size() >= sampleThreshold && ThreadLocalRandom.current().nextInt(sampleRate) != 0)
+                    dropped.increment();
+                else if(!ring.offer(line, offset, length))
+                    dropped.increment();
+            }
+            case SPILL -> {
+                if(!ring.offer(line, offset, length)) {
+                    spillSink.append(line, offset, length);
+                    spillSink.endBatch();
+                    spilled.increment();
+                }
+            }
+        }
+    }
+
+    private void drain() {
+        while(running) {
+            if(writeBatch() == 0)
+                awaitLines();
+        }
+        while(writeBatch() > 0);        // Whatever was published before close() still reaches the sink
+    }
+
+    // Imp- BLOCKING sets sleeping before the last emptiness check, a producer offering after that check sees it and unparks the writer
+    private void awaitLines() {
+        if(waitStrategy != WaitStrategy.BLOCKING) {
+            waitStrategy.idle();
+            return;
+        }
+        sleeping = true;
+        if(ring.size() == 0 && running)
+            LockSupport.parkNanos(WaitStrategy.BLOCKING_TIMEOUT_NANOS);
+        sleeping = false;
+    }
+
+    private int writeBatch() {
+        int count = ring.drainTo(sink, MAX_BATCH);
+        if(count > 0)
+            sink.endBatch();        // One flush (and write syscall) per batch for the plain writer
+        return count;
+    }
+
+    @Override public long droppedCount() {return dropped.sum();}
+
+    public long spilledCount() {return spilled.sum();}
+
+    @Override public LogPublisher reopen(LogSink newSink) {
+        return new AsyncLogWriter(newSink, ring.capacity(), waitStrategy, overflowPolicy, sampleRate, spillFile);
+    }
+
+    @Override public void close() {
+        closed = true;
+        while(inFlight.sum() > 0)       // The writer keeps draining, so a producer blocked on a full ring gets in and leaves
+            Thread.yield();
+        running = false;
+        writerThread.interrupt();       // Wakes a parked writer immediately
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {Thread.currentThread().interrupt();}
+        if(spillSink != null)   spillSink.close();
+    }
+}
@@ -0,0 +1,64 @@
+package Singleton;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+// Imp- Decoder for the BinaryLogWriter format, renders records to text on demand
+// CLI : java Singleton.BinaryLogReader [file]   (defaults to Singleton.BINARY_LOG_FILE)
+public class BinaryLogReader {
+    private final Map<Integer, String> templates = new HashMap<>();
+
+    // Imp- Reads records in file order, a template definition always precedes the events that use it
+    public void render(String file, PrintStream out) throws IOException {
+        try(DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16))) {
+            while(true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {return;}
+                byte type = in.readByte();
+                if(type == BinaryLogWriter.TEMPLATE) {
+                    int id = in.readInt();
+                    byte text[] = new byte[length - 1 - 4];
+                    in.readFully(text);
+                    templates.put(id, new String(text, StandardCharsets.UTF_8));
+                } else if(type == BinaryLogWriter.EVENT) {
+                    long millis = in.readLong();
+                    LogLevel level = LogLevel.of(in.readByte());
+                    int id = in.readInt();
+                    long fields[] = new long[in.readShort()];
+                    for(int i = 0; i < fields.length; i++)
+                        fields[i] = in.readLong();
+                    out.println(Instant.ofEpochMilli(millis) + " " + level + " " + format(templates.get(id), fields));
+                } else    in.skipBytes(length - 1);        // Unknown record type from a newer writer
+            }
+        }
+    }
+
+    // Imp- Each {} takes the next field, fields left over are appended so nothing is silently lost
+    public static String format(String template, long fields[]) {
+        if(template == null)    template = "<unknown template>";
+        StringBuilder text = new StringBuilder(template.length() + 16 * fields.length);
+        int field = 0, from = 0, at;
+        while(field < fields.length && (at = template.indexOf("{}", from)) >= 0) {
+            text.append(template, from, at).append(fields[field++]);
+            from = at + 2;
+        }
+        text.append(template, from, template.length());
+        while(field < fields.length)
+            text.append(' ').append(fields[field++]);
+        return text.toString();
+    }
+
+    public static void main(String[] args) throws IOException {
+        new BinaryLogReader().render(args.length > 0 ? args[0] : Singleton.BINARY_LOG_FILE, System.out);
+    }
+}
@@ -0,0 +1,86 @@
+package Singleton;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Imp- Structured binary log, records carry a template id and raw long fields, the text is only rendered when read (BinaryLogReader)
+// Record layout : int length (of the rest) | byte type | body
+//   TEMPLATE body : int id | UTF-8 template text, written once per template and run
+//   EVENT body    : long epoch millis | byte level | int template id | short field count | long fields[]
+public class BinaryLogWriter {
+    public static final byte TEMPLATE = 0, EVENT = 1;
+    private static final long FLUSH_INTERVAL_MILLIS = 200;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+    private final Map<String, Integer> templateIds = new ConcurrentHashMap<>();      // Interned templates
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final ScheduledExecutorService flusher;
+
+    public BinaryLogWriter(String file) throws IOException {
+        channel = FileChannel.open(Paths.get(file), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        // Imp- Bounds how long a record can sit in the buffer when traffic is low
+        flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "binary-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleAtFixedRate(this::flush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    // Imp- Returns the id of the template, registering (and writing its definition) only the first time it is seen
+    public int register(String template) {
+        return templateIds.computeIfAbsent(template, key -> {
+            int id = nextId.getAndIncrement();
+            byte text[] = key.getBytes(StandardCharsets.UTF_8);
+            synchronized(this) {
+                reserve(4 + 1 + 4 + text.length);
+                buffer.putInt(1 + 4 + text.length).put(TEMPLATE).putInt(id).put(text);
+            }
+            return id;
+        });
+    }
+
+    // Imp- Hot path, a handful of primitive puts into the buffer and no string formatting at all
+    public synchronized void write(LogLevel level, int templateId, long fields[]) {
+        int body = 1 + 8 + 1 + 4 + 2 + 8 * fields.length;
+        reserve(4 + body);
+        buffer.putInt(body).put(EVENT).putLong(System.currentTimeMillis()).put((byte) level.ordinal()).putInt(templateId).putShort((short) fields.length);
+        for(long field : fields)
+            buffer.putLong(field);
+    }
+
+    private void reserve(int bytes) {
+        if(bytes > buffer.capacity())
+            throw new IllegalArgumentException("Record of " + bytes + " bytes exceeds the buffer");
+        if(bytes > buffer.remaining())
+            flush();
+    }
+
+    public synchronized void flush() {
+        if(buffer.position() == 0)  return;
+        buffer.flip();
+        try {
+            while(buffer.hasRemaining())
+                channel.write(buffer);
+        } catch (IOException e) {e.printStackTrace();}
+        buffer.clear();
+    }
+
+    public synchronized void close() {
+        flusher.shutdownNow();
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {e.printStackTrace();}
+    }
+}
@@ -0,0 +1,40 @@
+package Singleton;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+// Imp- Console appender, "Log : " + line buffered and pushed to the stream once per batch instead of one println per line
+public class ConsoleSink implements LogSink {
+    private static final byte PREFIX[] = "Log : ".getBytes(StandardCharsets.UTF_8);
+    private static final byte LINE_SEPARATOR[] = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private final OutputStream out;
+
+    public ConsoleSink() {this(System.out);}
+
+    public ConsoleSink(PrintStream console) {this.out = new BufferedOutputStream(console, 1 << 14);}
+
+    @Override public void append(String line) {
+        byte bytes[] = line.getBytes(StandardCharsets.UTF_8);
+        append(bytes, 0, bytes.length);
+    }
+
+    @Override public synchronized void append(byte line[], int offset, int length) {
+        try {
+            out.write(PREFIX);
+            out.write(line, offset, length);
+            out.write(LINE_SEPARATOR);
+        } catch (IOException e) {e.printStackTrace();}
+    }
+
+    @Override public synchronized void endBatch() {
+        try {
+            out.flush();
+        } catch (IOException e) {e.printStackTrace();}
+    }
+
+    // Only flushes, System.out itself must stay open for the rest of the application
+    @Override public synchronized void close() {endBatch();}
+}
@@ -0,0 +1,8 @@
+package Singleton;
+
+// Imp - When written bytes are forced from the page cache to the disk (durability vs throughput)
+public enum FsyncPolicy {
+    NEVER,          // Left to the operating system, a crash can lose the last seconds of logs
+    PER_BATCH,      // fsync after every group commit
+    INTERVAL        // fsync at most once every configured interval
+}
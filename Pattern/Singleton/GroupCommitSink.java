@@ -0,0 +1,112 @@
+package Singleton;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Imp- Group commit : lines gather in a large direct buffer that goes to the file in one write, when it is full or its deadline passes
+public class GroupCommitSink implements LogSink {
+    private static final byte LINE_SEPARATOR[] = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private final FileChannel channel;
+    private final ByteBuffer buffer;        // Direct, so the channel writes it without an extra copy
+    private final long maxDelayNanos;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final ScheduledExecutorService timer;
+    private long batchStart;        // nanoTime of the oldest buffered line, 0 when the buffer is empty
+    private long lastFsync = System.nanoTime();
+    private boolean unsynced;       // Bytes written since the last fsync
+
+    public GroupCommitSink(String file, int batchBytes, long maxDelayMillis, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis) throws IOException {
+        if(batchBytes < 64 || maxDelayMillis < 1)
+            throw new IllegalArgumentException("Batch must hold at least 64 bytes and the deadline be at least 1 ms");
+        this.channel = FileChannel.open(Paths.get(file), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.buffer = ByteBuffer.allocateDirect(batchBytes);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+        // Imp- Enforces the deadline (and the fsync interval) even when no further line arrives to trigger it
+        this.timer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "group-commit-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tick = Math.max(1, Math.min(maxDelayMillis, fsyncPolicy == FsyncPolicy.INTERVAL ? fsyncIntervalMillis : maxDelayMillis));
+        timer.scheduleAtFixedRate(this::checkDeadlines, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    @Override public void append(String line) {
+        byte bytes[] = line.getBytes(StandardCharsets.UTF_8);
+        append(bytes, 0, bytes.length);
+    }
+
+    @Override public synchronized void append(byte line[], int offset, int length) {
+        int total = length + LINE_SEPARATOR.length;
+        if(total > buffer.remaining())      // Size threshold reached, commit what is gathered so far
+            commit();
+        if(total > buffer.capacity()) {     // Line larger than a whole batch goes straight to the file
+            write(ByteBuffer.wrap(line, offset, length));
+            write(ByteBuffer.wrap(LINE_SEPARATOR));
+            afterWrite();
+            return;
+        }
+        if(batchStart == 0)     batchStart = System.nanoTime();
+        buffer.put(line, offset, length).put(LINE_SEPARATOR);
+    }
+
+    private synchronized void checkDeadlines() {
+        long now = System.nanoTime();
+        if(batchStart != 0 && now - batchStart >= maxDelayNanos)
+            commit();
+        if(fsyncPolicy == FsyncPolicy.INTERVAL && unsynced && now - lastFsync >= fsyncIntervalNanos)
+            fsync(now);
+    }
+
+    // Writes the gathered batch with as few write calls as the channel allows
+    private void commit() {
+        if(buffer.position() == 0)  return;
+        buffer.flip();
+        write(buffer);
+        buffer.clear();
+        batchStart = 0;
+        afterWrite();
+    }
+
+    private void afterWrite() {
+        unsynced = true;
+        long now = System.nanoTime();
+        if(fsyncPolicy == FsyncPolicy.PER_BATCH || (fsyncPolicy == FsyncPolicy.INTERVAL && now - lastFsync >= fsyncIntervalNanos))
+            fsync(now);
+    }
+
+    private void write(ByteBuffer bytes) {
+        try {
+            while(bytes.hasRemaining())
+                channel.write(bytes);
+        } catch (IOException e) {e.printStackTrace();}
+    }
+
+    private void fsync(long now) {
+        try {
+            channel.force(false);       // File content only, metadata such as mtime is not needed for durability of the lines
+        } catch (IOException e) {e.printStackTrace();}
+        lastFsync = now;
+        unsynced = false;
+    }
+
+    @Override public synchronized void close() {
+        timer.shutdownNow();
+        commit();
+        if(fsyncPolicy != FsyncPolicy.NEVER && unsynced)
+            fsync(System.nanoTime());
+        try {
+            channel.close();
+        } catch (IOException e) {e.printStackTrace();}
+    }
+}
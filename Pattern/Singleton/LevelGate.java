@@ -0,0 +1,41 @@
+package Singleton;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+
+// Imp - Minimum enabled LogLevel kept in a MutableCallSite, the JIT inlines the current target as a constant (no volatile read per call)
+// Changing the level swaps the target, compiled code that folded the old constant is deoptimized and recompiled
+final class LevelGate {
+    private static final MutableCallSite SITE = new MutableCallSite(MethodHandles.constant(int.class, initial().ordinal()));
+    private static final MethodHandle THRESHOLD = SITE.dynamicInvoker();      // static final, so the JIT treats the handle itself as a constant
+    private static final MutableCallSite SITES[] = {SITE};
+
+    private LevelGate() {}
+
+    // Starting level, -Dlog.level=DEBUG (INFO when absent or not a level name)
+    private static LogLevel initial() {
+        String name = System.getProperty("log.level", "INFO").trim().toUpperCase();
+        for(LogLevel level : LogLevel.values())
+            if(level.name().equals(name))   return level;
+        return LogLevel.INFO;
+    }
+
+    static boolean isEnabled(LogLevel level) {
+        try {
+            return level.ordinal() >= (int) THRESHOLD.invokeExact();
+        } catch (Throwable e) {throw new IllegalStateException(e);}       // A constant handle never throws
+    }
+
+    static LogLevel level() {
+        try {
+            return LogLevel.of((int) THRESHOLD.invokeExact());
+        } catch (Throwable e) {throw new IllegalStateException(e);}
+    }
+
+    // Rare operation (startup, admin command), the syncAll makes every thread see the new level
+    static synchronized void setLevel(LogLevel level) {
+        SITE.setTarget(MethodHandles.constant(int.class, level.ordinal()));
+        MutableCallSite.syncAll(SITES);
+    }
+}
@@ -0,0 +1,107 @@
+package Singleton;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Imp- Formats a log line straight into a reusable byte[] (one per thread), no intermediate String or char[] is created
+// ASCII characters are copied as single bytes, anything else is encoded to UTF-8 by hand
+public class LineEncoder {
+    private static final byte MIN_LONG[] = Long.toString(Long.MIN_VALUE).getBytes();
+    private byte bytes[] = new byte[256];
+    private int length;
+
+    public LineEncoder reset() {
+        length = 0;
+        return this;
+    }
+
+    public LineEncoder append(CharSequence text) {
+        int n = text.length();
+        ensure(3 * n);      // Worst case, a char takes up to 3 bytes (a surrogate pair 4 bytes for 2 chars)
+        for(int i = 0; i < n; i++) {
+            char c = text.charAt(i);
+            if(c < 0x80)    bytes[length++] = (byte) c;     // ASCII fast path
+            else    i = appendUtf8(text, i, c);
+        }
+        return this;
+    }
+
+    // Imp- Decimal digits written right to left into place, Long.toString() would allocate a String
+    public LineEncoder append(long value) {
+        if(value == Long.MIN_VALUE) {       // The only value whose negation overflows
+            ensure(MIN_LONG.length);
+            System.arraycopy(MIN_LONG, 0, bytes, length, MIN_LONG.length);
+            length += MIN_LONG.length;
+            return this;
+        }
+        ensure(20);
+        if(value < 0) {
+            bytes[length++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for(long rest = value / 10; rest != 0; rest /= 10)
+            digits++;
+        for(int i = length + digits - 1; i >= length; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    // Imp- Each {} of the template takes the next argument, extra {} are kept as they are
+    public LineEncoder appendTemplate(String template, long a, long b) {
+        int from = 0, argument = 0, at;
+        while(argument < 2 && (at = template.indexOf("{}", from)) >= 0) {
+            appendRange(template, from, at);
+            append(argument++ == 0 ? a : b);
+            from = at + 2;
+        }
+        return appendRange(template, from, template.length());
+    }
+
+    private LineEncoder appendRange(String text, int from, int to) {
+        ensure(3 * (to - from));
+        for(int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if(c < 0x80)    bytes[length++] = (byte) c;
+            else    i = appendUtf8(text, i, c);
+        }
+        return this;
+    }
+
+    // Encodes one non ASCII character (or surrogate pair) and returns the index of the last char consumed
+    // Callers reserve 3 bytes per char beforehand
+    private int appendUtf8(CharSequence text, int i, char c) {
+        if(c < 0x800) {
+            bytes[length++] = (byte) (0xC0 | c >> 6);
+            bytes[length++] = (byte) (0x80 | c & 0x3F);
+        } else if(Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+            int codePoint = Character.toCodePoint(c, text.charAt(++i));
+            bytes[length++] = (byte) (0xF0 | codePoint >> 18);
+            bytes[length++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            bytes[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            bytes[length++] = (byte) (0x80 | codePoint & 0x3F);
+        } else if(Character.isSurrogate(c)) {
+            bytes[length++] = '?';      // Unpaired surrogate, same replacement as String.getBytes()
+        } else {
+            bytes[length++] = (byte) (0xE0 | c >> 12);
+            bytes[length++] = (byte) (0x80 | c >> 6 & 0x3F);
+            bytes[length++] = (byte) (0x80 | c & 0x3F);
+        }
+        return i;
+    }
+
+    // Room for at least extra more bytes, the array only ever grows so steady-state lines do not allocate
+    private void ensure(int extra) {
+        if(length + extra > bytes.length)
+            bytes = Arrays.copyOf(bytes, Math.max(length + extra, bytes.length * 2));
+    }
+
+    public byte[] bytes() {return bytes;}
+
+    public int length() {return length;}
+
+    @Override public String toString() {return new String(bytes, 0, length, StandardCharsets.UTF_8);}
+}
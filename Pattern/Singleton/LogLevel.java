@@ -0,0 +1,10 @@
+package Singleton;
+
+// Imp - Severity of a log record, ordered from the most verbose to the most severe
+public enum LogLevel {
+    TRACE, DEBUG, INFO, WARN, ERROR;
+
+    private static final LogLevel VALUES[] = values();
+
+    public static LogLevel of(int ordinal) {return VALUES[ordinal];}
+}
@@ -0,0 +1,22 @@
+package Singleton;
+
+import java.nio.charset.StandardCharsets;
+
+// Imp- Front end that takes lines off the request threads and hands them to the sink in the background (ring buffer, per-thread buffers)
+public interface LogPublisher {
+    // Imp- False once the publisher is closed, the caller then writes the line elsewhere (it was not taken)
+    public boolean publish(String line);
+
+    // Imp- One already encoded UTF-8 line, front ends that copy bytes override this so the caller never builds a String
+    public default boolean publish(byte line[], int offset, int length) {return publish(new String(line, offset, length, StandardCharsets.UTF_8));}
+
+    // Lines discarded by an overflow policy so far
+    public default long droppedCount() {return 0;}
+
+    // Same settings on top of another sink, used when the sink is replaced
+    public LogPublisher reopen(LogSink sink);
+
+    // Imp- Refuses new lines, waits for producers still inside publish(), then stops the background thread once every
+    // accepted line reached the sink, the sink itself stays open
+    public void close();
+}
@@ -0,0 +1,16 @@
+package Singleton;
+
+import java.nio.charset.StandardCharsets;
+
+// Imp- Destination of log lines (plain writer, group commit buffer, ...), one sink is active per Singleton at a time
+public interface LogSink {
+    public void append(String line);
+
+    // Imp- One already encoded UTF-8 line (without separator), byte oriented sinks override this to copy the bytes directly
+    public default void append(byte line[], int offset, int length) {append(new String(line, offset, length, StandardCharsets.UTF_8));}
+
+    // Imp- Called after every synchronous line and after every batch drained by the async writer, the sink decides what it flushes
+    public default void endBatch() {}
+
+    public void close();
+}
@@ -0,0 +1,457 @@
+package Singleton;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.zip.GZIPInputStream;
+
+// Imp- Tails LOG_FILE (WatchService + FileChannel position) and keeps a sparse time -> offset index per segment,
+// so a time range query seeks close to the first wanted line instead of scanning the log from the start
+// Time of a line : the epoch millis Singleton writes at its start (after the sequence number for per-thread buffers), lines
+// without one inherit the time of the line before them, the first ones the file time or the roll time of the segment name
+// Each index is saved next to its file (hidden .<file name>.idx), a cold query loads it and only indexes what was appended since
+public class LogTailer {
+    public static final int INDEX_INTERVAL = 1 << 16;      // One index entry per 64 KB of log
+    private static final int INDEX_MAGIC = 0x4C4F4749;     // "LOGI"
+    private static final long POLL_MILLIS = 500;          // Re-checks even when a watch event was missed or coalesced
+    private final Path active;
+    private final String prefix;
+    private final ToLongFunction<String> timestampOf;
+    private final Consumer<String> listener;
+    private final Map<Path, SparseIndex> indexes = new ConcurrentHashMap<>();
+    private final WatchService watcher;     // Both null for a query-only tailer
+    private final Thread tailThread;
+    private volatile boolean running = true;
+    private FileChannel channel;        // Tail thread only
+    private Object fileKey;             // Identity (inode) of the open file, changes when the file is rolled
+    private String lastSegment = "";    // Name (without .gz) of the newest segment already handed to the listener, tail thread only
+
+    // Imp- Sparse index of one file, times are kept non decreasing so a binary search finds the seek offset
+    private static final class SparseIndex {
+        private final String fileKey;       // The index only belongs to this file, a rolled and recreated file gets a new one
+        private long times[] = new long[64], offsets[] = new long[64];
+        private int size;
+        private long lastOffset = -INDEX_INTERVAL;
+        private long indexedTo;             // Complete lines in [0, indexedTo) are indexed
+        private long lastTime = -1;         // Time of the latest stamped line, inherited by lines without a stamp
+
+        SparseIndex(String fileKey) {this.fileKey = fileKey;}
+
+        synchronized void record(long time, long offset) {
+            if(offset - lastOffset < INDEX_INTERVAL)    return;
+            if(size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            times[size] = size > 0 ? Math.max(time, times[size - 1]) : time;
+            offsets[size++] = offset;
+            lastOffset = offset;
+        }
+
+        // Entry to start scanning from, the last one strictly before the wanted time (-1 = start of the file)
+        synchronized int seek(long fromMillis) {
+            int lo = 0, hi = size - 1, found = -1;
+            while(lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if(times[mid] < fromMillis) {found = mid; lo = mid + 1;}
+                else    hi = mid - 1;
+            }
+            return found;
+        }
+
+        synchronized long offset(int entry) {return entry < 0 ? 0 : entry < size ? offsets[entry] : Long.MAX_VALUE;}
+
+        synchronized long time(int entry) {return entry < 0 ? Long.MIN_VALUE : times[entry];}
+
+        synchronized long indexedTo() {return indexedTo;}
+
+        // Imp- Indexes the lines appended since the last call (handing them to listener when not null), returns the new end
+        synchronized long extend(FileChannel channel, ToLongFunction<String> timestampOf, long fallback, Consumer<String> listener) throws IOException {
+            indexedTo = scanLines(channel, indexedTo, (offset, line) -> {
+                long time = timestampOf.applyAsLong(line);
+                if(time >= 0)   lastTime = time;
+                else    time = lastTime >= 0 ? lastTime : fallback;
+                record(time, offset);
+                if(listener != null)    listener.accept(line);
+                return true;
+            });
+            return indexedTo;
+        }
+
+        // Written to a temporary file first, so a crash never leaves a half written index behind
+        synchronized void save(Path file) {
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeUTF(fileKey);
+                out.writeLong(indexedTo);
+                out.writeLong(lastOffset);
+                out.writeLong(lastTime);
+                out.writeInt(size);
+                for(int i = 0; i < size; i++) {
+                    out.writeLong(times[i]);
+                    out.writeLong(offsets[i]);
+                }
+            } catch (IOException e) {e.printStackTrace(); return;}
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {e.printStackTrace();}
+        }
+
+        // Saved index of the file, null when there is none or it belongs to another file (rolled, truncated)
+        static SparseIndex load(Path file, String fileKey, long fileSize) {
+            if(!Files.exists(file))     return null;
+            try(DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if(in.readInt() != INDEX_MAGIC || !in.readUTF().equals(fileKey))    return null;
+                SparseIndex index = new SparseIndex(fileKey);
+                index.indexedTo = in.readLong();
+                index.lastOffset = in.readLong();
+                index.lastTime = in.readLong();
+                int size = in.readInt();
+                if(index.indexedTo > fileSize || size < 0)     return null;
+                index.times = new long[Math.max(size, 64)];
+                index.offsets = new long[index.times.length];
+                for(int i = 0; i < size; i++) {
+                    index.times[i] = in.readLong();
+                    index.offsets[i] = in.readLong();
+                }
+                index.size = size;
+                return index;
+            } catch (IOException e) {return null;}       // Unreadable, rebuilt from the log itself
+        }
+    }
+
+    // Receives every complete line with the file offset where it starts, returns false to stop the scan
+    private interface LineVisitor {
+        boolean visit(long offset, String line);
+    }
+
+    public LogTailer(String logFile, Consumer<String> listener) throws IOException {this(logFile, listener, LogTailer::epochMillisOf);}
+
+    public LogTailer(String logFile, Consumer<String> listener, ToLongFunction<String> timestampOf) throws IOException {
+        this(logFile, listener, timestampOf, true);
+    }
+
+    // Imp- Cold range query, no tail thread is started and the saved indexes are reused
+    public static List<String> query(String logFile, long fromMillis, long toMillis) throws IOException {
+        return new LogTailer(logFile, line -> {}, LogTailer::epochMillisOf, false).query(fromMillis, toMillis);
+    }
+
+    private LogTailer(String logFile, Consumer<String> listener, ToLongFunction<String> timestampOf, boolean follow) throws IOException {
+        this.active = Paths.get(logFile).toAbsolutePath();
+        String name = active.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        this.prefix = (dot < 0 ? name : name.substring(0, dot)) + "-";
+        this.listener = listener;
+        this.timestampOf = timestampOf;
+        if(!follow) {
+            this.watcher = null;
+            this.tailThread = null;
+            return;
+        }
+        this.watcher = FileSystems.getDefault().newWatchService();
+        active.getParent().register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.tailThread = new Thread(this::tail, "log-tailer");
+        tailThread.setDaemon(true);
+        tailThread.start();
+    }
+
+    // Imp- Existing content is only indexed, lines that arrive afterwards are indexed and handed to the listener
+    private void tail() {
+        try {
+            List<Path> existing = segments();
+            if(!existing.isEmpty())     lastSegment = baseName(existing.get(existing.size() - 1));
+            open(false);
+            while(running) {
+                WatchKey key = watcher.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if(key != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+                catchUp();
+            }
+        } catch (InterruptedException e) {Thread.currentThread().interrupt();}
+        catch (IOException e) {e.printStackTrace();}
+    }
+
+    private void catchUp() throws IOException {
+        Object key = fileKeyOf(active);
+        if(channel != null && !Objects.equals(key, fileKey)) {      // Rolled : finish the old file, its index moves to the segment
+            readNew(true);
+            channel.close();
+            channel = null;
+            SparseIndex index = indexes.remove(active);
+            // Imp- The first segment after the last one handled is the file just drained, any later one rolled and closed between two polls
+            List<Path> rolled = segmentsAfter(lastSegment);
+            for(int i = 0; i < rolled.size(); i++) {
+                Path segment = rolled.get(i);
+                lastSegment = baseName(segment);
+                boolean plain = !segment.toString().endsWith(".gz");
+                Object segmentKey = plain ? fileKeyOf(segment) : null;      // null once compressed, then the position decides
+                if(i > 0 || segmentKey != null && !segmentKey.equals(fileKey))      // A plain segment proves it is the drained file by its inode
+                    readRolled(segment);
+                else if(index != null && plain) {      // The rename kept the inode, so the index stays valid for the segment
+                    indexes.put(segment, index);
+                    index.save(indexPath(segment));
+                }
+            }
+        }
+        if(channel == null)     open(true);
+        if(channel != null)     readNew(true);
+    }
+
+    private void open(boolean notify) throws IOException {
+        Object key = fileKeyOf(active);
+        if(key == null)     return;     // Not created yet, the watch service reports it
+        channel = FileChannel.open(active, StandardOpenOption.READ);
+        fileKey = key;
+        if(notify)  indexes.put(active, new SparseIndex(key.toString()));      // Created after a roll, every line is new
+        else    indexFor(active);       // Startup, continues from the saved index instead of indexing the whole file again
+        readNew(notify);
+    }
+
+    // Every line of a segment the tail thread never had open, a plain one is indexed on the way
+    private void readRolled(Path segment) throws IOException {
+        if(!segment.toString().endsWith(".gz")) {
+            try(FileChannel reader = FileChannel.open(segment, StandardOpenOption.READ)) {
+                SparseIndex index = new SparseIndex(String.valueOf(fileKeyOf(segment)));
+                index.extend(reader, timestampOf, rolledAt(segment), listener);
+                indexes.put(segment, index);
+                index.save(indexPath(segment));
+                return;
+            } catch (NoSuchFileException e) {
+                segment = segment.resolveSibling(segment.getFileName() + ".gz");        // Compressed meanwhile, the .gz is complete once the plain file is gone
+            }
+        }
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(segment), 1 << 16), StandardCharsets.UTF_8))) {
+            String line;
+            while((line = reader.readLine()) != null)
+                listener.accept(line);
+        } catch (NoSuchFileException e) {}      // Deleted by retention before it could be read
+    }
+
+    private void readNew(boolean notify) throws IOException {
+        SparseIndex index = indexes.get(active);
+        long fallback = notify ? System.currentTimeMillis() : Files.getLastModifiedTime(active).toMillis();
+        index.extend(channel, timestampOf, fallback, notify ? listener : null);
+    }
+
+    // In memory index of the file, else the saved one, else an empty one, always matching the file currently at that path
+    private SparseIndex indexFor(Path file) {
+        Object key = fileKeyOf(file);
+        String current = String.valueOf(key);
+        SparseIndex index = indexes.get(file);
+        if(index != null && index.fileKey.equals(current))    return index;
+        index = SparseIndex.load(indexPath(file), current, sizeOf(file));
+        if(index == null)   index = new SparseIndex(current);
+        indexes.put(file, index);
+        return index;
+    }
+
+    private static Path indexPath(Path file) {return file.resolveSibling("." + file.getFileName() + ".idx");}
+
+    // Imp- Lines with a time in [fromMillis, toMillis], oldest segment first
+    public List<String> query(long fromMillis, long toMillis) throws IOException {
+        List<String> lines = new ArrayList<>();
+        long earliest = Long.MIN_VALUE;     // Roll time of the previous segment, nothing in the next one is older
+        for(Path segment : segments()) {
+            long rolledAt = rolledAt(segment);      // Nothing in the segment is newer than its roll time
+            if(earliest > toMillis)     return lines;
+            if(segment.toString().endsWith(".gz"))      // Compressed in the meantime, the plain segment's index is stale
+                Files.deleteIfExists(indexPath(segment.resolveSibling(segment.getFileName().toString().replaceFirst("\\.gz$", ""))));
+            if(rolledAt >= fromMillis) {
+                if(segment.toString().endsWith(".gz"))  scanCompressed(segment, fromMillis, toMillis, rolledAt, lines);
+                else    scanIndexed(segment, fromMillis, toMillis, rolledAt, lines);
+            }
+            earliest = rolledAt;
+        }
+        if(earliest <= toMillis && Files.exists(active))
+            scanIndexed(active, fromMillis, toMillis, Files.getLastModifiedTime(active).toMillis(), lines);
+        return lines;
+    }
+
+    // Seeks with the sparse index (only the bytes appended since it was saved are indexed first) and stops past toMillis
+    private void scanIndexed(Path file, long fromMillis, long toMillis, long fallback, List<String> lines) throws IOException {
+        SparseIndex seekIndex = indexFor(file);
+        try(FileChannel reader = FileChannel.open(file, StandardOpenOption.READ)) {
+            long indexed = seekIndex.indexedTo();
+            if(seekIndex.extend(reader, timestampOf, fallback, null) != indexed)
+                seekIndex.save(indexPath(file));
+            int entry[] = {seekIndex.seek(fromMillis)};
+            long current[] = {seekIndex.time(entry[0])};
+            entry[0]++;
+            scanLines(reader, seekIndex.offset(entry[0] - 1), (offset, line) -> {
+                while(offset >= seekIndex.offset(entry[0]))     // Lines without their own time inherit the latest index time
+                    current[0] = Math.max(current[0], seekIndex.time(entry[0]++));
+                long time = timestampOf.applyAsLong(line);
+                if(time >= 0)   current[0] = time;
+                if(current[0] > toMillis)   return false;
+                if(current[0] >= fromMillis)    lines.add(line);
+                return true;
+            });
+        }
+    }
+
+    // Compressed segments cannot seek, they are only read when their time bounds overlap the query
+    private void scanCompressed(Path file, long fromMillis, long toMillis, long fallback, List<String> lines) throws IOException {
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(file), 1 << 16), StandardCharsets.UTF_8))) {
+            String line;
+            while((line = reader.readLine()) != null) {
+                long time = timeOf(line, fallback);
+                if(time > toMillis)     return;
+                if(time >= fromMillis)  lines.add(line);
+            }
+        }
+    }
+
+    // Reads the complete lines from offset on, returns the offset after the last complete line (a partial line is read again later)
+    private static long scanLines(FileChannel channel, long offset, LineVisitor visitor) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        byte line[] = new byte[256];
+        int length = 0;
+        long position = offset, lineStart = offset;
+        while(channel.read(buffer, position) > 0) {
+            buffer.flip();
+            while(buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if(b == 0)  return lineStart;       // Unused tail of a MappedLogSink region (or a line still being copied in), read again later
+                position++;
+                if(b == '\n') {
+                    int end = length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+                    if(!visitor.visit(lineStart, new String(line, 0, end, StandardCharsets.UTF_8)))
+                        return lineStart;
+                    lineStart = position;
+                    length = 0;
+                } else {
+                    if(length == line.length)   line = Arrays.copyOf(line, length * 2);
+                    line[length++] = b;
+                }
+            }
+            buffer.clear();
+        }
+        return lineStart;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {return 0;}
+    }
+
+    private long timeOf(String line, long fallback) {
+        long time = timestampOf.applyAsLong(line);
+        return time >= 0 ? time : fallback;
+    }
+
+    // Imp- Default extractor, a 13 digit epoch millis as the first or second token ("<sequence> <millis> <message>"), -1 if absent
+    public static long epochMillisOf(String line) {
+        int start = 0;
+        for(int token = 0; token < 2 && start < line.length(); token++) {
+            int end = line.indexOf(' ', start);
+            if(end < 0)     end = line.length();
+            if(end - start == 13) {
+                long value = 0;
+                int i = start;
+                for(; i < end && Character.isDigit(line.charAt(i)); i++)
+                    value = value * 10 + (line.charAt(i) - '0');
+                if(i == end)    return value;
+            }
+            start = end + 1;
+        }
+        return -1;
+    }
+
+    // Closed segments (plain and gzipped) oldest first, the name carries the roll time
+    private List<Path> segments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(active.getParent(), prefix + "*")) {
+            for(Path segment : stream)
+                if(rolledAt(segment) >= 0)  segments.add(segment);
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    // Segments rolled after the named one, oldest first, the plain file when it is still there (compression in progress) else the .gz
+    private List<Path> segmentsAfter(String name) throws IOException {
+        Map<String, Path> newer = new LinkedHashMap<>();
+        for(Path segment : segments())      // Sorted, so x.log comes before x.log.gz
+            if(baseName(segment).compareTo(name) > 0)  newer.putIfAbsent(baseName(segment), segment);
+        return new ArrayList<>(newer.values());
+    }
+
+    private static String baseName(Path segment) {return segment.getFileName().toString().replaceFirst("\\.gz$", "");}
+
+    private long rolledAt(Path segment) {
+        String name = segment.getFileName().toString();
+        int end = name.indexOf('-', prefix.length());
+        if(end < 0)     return -1;
+        try {
+            return Long.parseLong(name.substring(prefix.length(), end));
+        } catch (NumberFormatException e) {return -1;}
+    }
+
+    private static Object fileKeyOf(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.fileKey() != null ? attributes.fileKey() : attributes.creationTime();
+        } catch (IOException e) {return null;}
+    }
+
+    public void close() {
+        if(tailThread == null)  return;
+        running = false;
+        tailThread.interrupt();
+        try {
+            tailThread.join();
+            watcher.close();
+            if(channel != null) {
+                indexes.get(active).save(indexPath(active));       // The next start continues from here
+                channel.close();
+            }
+        } catch (InterruptedException e) {Thread.currentThread().interrupt();}
+        catch (IOException e) {e.printStackTrace();}
+    }
+
+    // CLI : java Singleton.LogTailer                        (follows LOG_FILE)
+    //       java Singleton.LogTailer <from millis> <to millis>   (prints the lines in the range)
+    public static void main(String[] args) throws Exception {
+        if(args.length == 2) {
+            for(String line : query(Singleton.LOG_FILE, Long.parseLong(args[0]), Long.parseLong(args[1])))
+                System.out.println(line);
+            return;
+        }
+        new LogTailer(Singleton.LOG_FILE, System.out::println);
+        Thread.currentThread().join();
+    }
+}
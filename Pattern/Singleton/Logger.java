@@ -1,6 +1,7 @@
 package Singleton;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import Reader.FastReader;
 
 public class Logger {
@@ -38,6 +39,14 @@ public class Logger {
         System.out.println(" 2- Get ALL INSTANCES");
         System.out.println(" 3- Compare tw INSTANCES to check there is actually a single instance");
         System.out.println(" 4- Write in the file");
+        System.out.println(" 5- Enable ASYNC logging (BUSY_SPIN / YIELD / PARK / BLOCKING)");
+        System.out.println(" 6- Enable GROUP COMMIT logging (NEVER / PER_BATCH / INTERVAL fsync)");
+        System.out.println(" 7- Enable MEMORY MAPPED logging");
+        System.out.println(" 8- Enable ROLLING logging (64 MB or daily segments, 30 kept)");
+        System.out.println(" 9- Enable PER THREAD log buffers");
+        System.out.println(" 10- Enable BOUNDED ASYNC logging (BLOCK / DROP_NEWEST / DROP_OLDEST / SAMPLE / SPILL)");
+        System.out.println(" 11- Set the LOG LEVEL (TRACE / DEBUG / INFO / WARN / ERROR)");
+        System.out.println(" 12- Switch the CONSOLE echo (ON / OFF)");
         System.out.println("======================================================");
         while(n != 0) {
             n = fastReader.nextInt();
@@ -47,6 +56,14 @@ public class Logger {
                 case 2 -> {Switches.getAllInstances(); break;}
                 case 3 -> {System.out.println("Are two taken instances same ? "+Switches.checkTwoInstances(fastReader.nextInt(), fastReader.nextInt())); break;}
                 case 4 -> {Switches.singletonMap.get(1).log(fastReader.nextLine());}
+                case 5 -> {Switches.singletonMap.get(1).enableAsync(1 << 16, WaitStrategy.valueOf(fastReader.nextLine().trim().toUpperCase()));}
+                case 6 -> {Switches.singletonMap.get(1).enableGroupCommit(1 << 20, 50, FsyncPolicy.valueOf(fastReader.nextLine().trim().toUpperCase()), 1000);}
+                case 7 -> {Switches.singletonMap.get(1).enableMappedLog(1 << 24);}
+                case 8 -> {Switches.singletonMap.get(1).enableRolling(64L << 20, TimeUnit.DAYS.toMillis(1), 30, 0);}
+                case 9 -> {Switches.singletonMap.get(1).enablePerThreadBuffers(4096, 50);}
+                case 10 -> {Switches.singletonMap.get(1).enableAsync(1 << 16, WaitStrategy.PARK, OverflowPolicy.valueOf(fastReader.nextLine().trim().toUpperCase()));}
+                case 11 -> {Singleton.setLevel(LogLevel.valueOf(fastReader.nextLine().trim().toUpperCase()));}
+                case 12 -> {Switches.singletonMap.get(1).setConsoleEcho(fastReader.nextLine().trim().equalsIgnoreCase("ON"));}
                 default -> System.out.println("Wrong n value entered");
             }
         }
@@ -0,0 +1,108 @@
+package Singleton;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Imp- Append-only log through a memory-mapped region, writers reserve bytes with a CAS and copy them in, no syscall per line
+// The page cache writes the region back to the file, a new region is mapped right after the used bytes once it fills up
+public class MappedLogSink implements LogSink {
+    private static final byte LINE_SEPARATOR[] = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private static final int SEALED = Integer.MAX_VALUE;      // Position of a full region, every reservation on it fails
+    private final FileChannel channel;
+    private final int regionBytes;
+    private volatile Region region;
+
+    // One mapped window of the file, position counts the bytes reserved in it
+    private static final class Region {
+        final MappedByteBuffer buffer;
+        final long base;        // File offset of the first byte of the window
+        final AtomicInteger position = new AtomicInteger();
+
+        Region(MappedByteBuffer buffer, long base) {
+            this.buffer = buffer;
+            this.base = base;
+        }
+    }
+
+    public MappedLogSink(String file, int regionBytes) throws IOException {
+        if(regionBytes < 4096)
+            throw new IllegalArgumentException("Region must be at least 4096 bytes");
+        this.channel = FileChannel.open(Paths.get(file), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.regionBytes = regionBytes;
+        this.region = map(dataEnd(channel), regionBytes);     // Appends after the existing content
+    }
+
+    // Imp- A crash before close() leaves the unused tail of the last region as NUL bytes, the next line goes right after the real content
+    private static long dataEnd(FileChannel channel) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(1 << 16);
+        long end = channel.size();
+        while(end > 0) {
+            long start = Math.max(0, end - chunk.capacity());
+            chunk.clear().limit((int) (end - start));
+            while(chunk.hasRemaining() && channel.read(chunk, start + chunk.position()) >= 0);
+            for(int i = chunk.position() - 1; i >= 0; i--)
+                if(chunk.get(i) != 0)   return start + i + 1;
+            end = start;
+        }
+        return 0;
+    }
+
+    @Override public void append(String line) {
+        byte bytes[] = line.getBytes(StandardCharsets.UTF_8);
+        append(bytes, 0, bytes.length);
+    }
+
+    @Override public void append(byte line[], int offset, int length) {
+        int total = length + LINE_SEPARATOR.length;
+        while(true) {
+            Region current = region;
+            int position = current.position.get();
+            if(position > current.buffer.capacity() - total) {     // Does not fit (or sealed), move to the next region
+                if(!roll(current, total))   return;     // Line dropped and reported, logging never throws on the caller's thread
+                continue;
+            }
+            if(current.position.compareAndSet(position, position + total)) {
+                // Imp- Absolute puts, writers copy into disjoint ranges of the same mapping in parallel
+                current.buffer.put(position, line, offset, length);
+                current.buffer.put(position + length, LINE_SEPARATOR);
+                return;
+            }
+        }
+    }
+
+    // Imp- Only the thread that finds the region full maps the next one, latecomers see the new volatile region and retry
+    // False when the next region cannot be mapped (closed sink, mmap failure), the region is unsealed so a later line tries again
+    private synchronized boolean roll(Region full, int needed) {
+        if(region != full)  return true;
+        int used = full.position.getAndSet(SEALED);     // Reservations still copying into the old window are unaffected
+        try {
+            region = map(full.base + used, Math.max(regionBytes, needed));
+            return true;
+        } catch (IOException e) {
+            full.position.set(used);
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private Region map(long base, int size) throws IOException {
+        return new Region(channel.map(FileChannel.MapMode.READ_WRITE, base, size), base);
+    }
+
+    // Imp- Forces the mapped bytes to disk and cuts the unused tail of the last region off the file
+    @Override public synchronized void close() {
+        Region last = region;
+        int used = last.position.getAndSet(SEALED);
+        try {
+            last.buffer.force();
+            channel.truncate(last.base + used);
+            channel.close();
+        } catch (IOException e) {e.printStackTrace();}
+    }
+}
@@ -0,0 +1,34 @@
+package Singleton;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Imp- In-memory appender keeping the last capacity lines (tests, crash dumps, an admin endpoint showing recent activity)
+public class MemoryRingSink implements LogSink {
+    private final String lines[];
+    private long written;       // Total lines appended, written % capacity is the next slot
+
+    public MemoryRingSink(int capacity) {
+        if(capacity < 1)
+            throw new IllegalArgumentException("Capacity must be positive");
+        this.lines = new String[capacity];
+    }
+
+    @Override public synchronized void append(String line) {
+        lines[(int) (written % lines.length)] = line;
+        written++;
+    }
+
+    // Imp- Oldest retained line first
+    public synchronized List<String> snapshot() {
+        int size = (int) Math.min(written, lines.length);
+        List<String> copy = new ArrayList<>(size);
+        for(long i = written - size; i < written; i++)
+            copy.add(lines[(int) (i % lines.length)]);
+        return copy;
+    }
+
+    public synchronized long writtenCount() {return written;}
+
+    @Override public void close() {}
+}
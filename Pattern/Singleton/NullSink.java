@@ -0,0 +1,10 @@
+package Singleton;
+
+// Imp- Discards every line, measures the cost of the logging path itself (formatting, queueing) without any I/O
+public class NullSink implements LogSink {
+    @Override public void append(String line) {}
+
+    @Override public void append(byte line[], int offset, int length) {}
+
+    @Override public void close() {}
+}
@@ -0,0 +1,10 @@
+package Singleton;
+
+// Imp - What a producer does when the async ring buffer is full
+public enum OverflowPolicy {
+    BLOCK,          // Waits for space with the wait strategy, nothing is lost but request threads stall
+    DROP_NEWEST,    // Discards the line being published
+    DROP_OLDEST,    // Discards the oldest queued line to make room, the newest lines are usually the most useful
+    SAMPLE,         // Above 3/4 full only one line in sampleRate is admitted, the rest is discarded
+    SPILL           // Writes the line synchronously to a secondary spill file instead
+}
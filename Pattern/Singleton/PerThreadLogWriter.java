@@ -0,0 +1,148 @@
+package Singleton;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Imp- Every thread appends to its own buffer, so threads never contend on one writer lock (the PrintWriter monitor)
+// The writer thread swaps each buffer out periodically and merges the records by sequence number before writing them
+// Line format : <sequence> <epoch millis> <message> (Singleton stamps the millis), each batch is in order and sorting by sequence restores the global order
+public class PerThreadLogWriter implements LogPublisher {
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<ThreadBuffer> buffers = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<ThreadBuffer> local;
+    private final LogSink sink;
+    private final int capacityPerThread;
+    private final long flushIntervalMillis;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private volatile boolean closed;
+    private final LongAdder inFlight = new LongAdder();     // Producers currently inside publish()
+
+    // Records of one thread, only its owner appends and only the writer thread swaps the arrays out
+    private static final class ThreadBuffer {
+        final Thread owner;
+        long sequences[];
+        String messages[];
+        int size;
+
+        ThreadBuffer(Thread owner, int capacity) {
+            this.owner = owner;
+            allocate(capacity);
+        }
+
+        void allocate(int capacity) {
+            sequences = new long[capacity];
+            messages = new String[capacity];
+            size = 0;
+        }
+    }
+
+    // Writer side copy of one swapped out buffer, read from the front during the merge
+    private static final class Drained {
+        final long sequences[];
+        final String messages[];
+        final int size;
+        int next;
+
+        Drained(ThreadBuffer buffer) {
+            sequences = buffer.sequences;
+            messages = buffer.messages;
+            size = buffer.size;
+        }
+    }
+
+    public PerThreadLogWriter(LogSink sink, int capacityPerThread, long flushIntervalMillis) {
+        if(capacityPerThread < 1 || flushIntervalMillis < 1)
+            throw new IllegalArgumentException("Capacity and flush interval must be positive");
+        this.sink = sink;
+        this.capacityPerThread = capacityPerThread;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.local = ThreadLocal.withInitial(() -> {
+            ThreadBuffer buffer = new ThreadBuffer(Thread.currentThread(), capacityPerThread);
+            buffers.add(buffer);
+            return buffer;
+        });
+        this.writerThread = new Thread(this::drain, "per-thread-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    // Imp- The monitor of the thread's own buffer is uncontended except for the moment the writer swaps it
+    @Override public boolean publish(String line) {
+        inFlight.increment();       // Before reading closed, so close() either sees this producer or the producer sees closed
+        try {
+            if(closed)  return false;
+            append(line);
+            return true;
+        } finally {inFlight.decrement();}
+    }
+
+    private void append(String line) {
+        ThreadBuffer buffer = local.get();
+        while(true) {
+            synchronized(buffer) {
+                if(buffer.size < buffer.messages.length) {
+                    int i = buffer.size++;
+                    buffer.sequences[i] = sequence.getAndIncrement();
+                    buffer.messages[i] = line;
+                    return;
+                }
+            }
+            LockSupport.unpark(writerThread);       // Buffer full, ask for an early collection and wait for it
+            Thread.yield();
+        }
+    }
+
+    private void drain() {
+        while(running) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis));
+            collect();
+        }
+        collect();      // Lines published before close() still reach the sink
+    }
+
+    private void collect() {
+        Drained drained[] = new Drained[buffers.size()];
+        int count = 0;
+        for(ThreadBuffer buffer : buffers) {
+            synchronized(buffer) {
+                if(buffer.size > 0) {
+                    drained[count++] = new Drained(buffer);
+                    buffer.allocate(capacityPerThread);     // The owner continues on fresh arrays right away
+                } else if(!buffer.owner.isAlive())
+                    buffers.remove(buffer);     // Thread is gone and nothing is left to write
+            }
+        }
+        if(count == 0)  return;
+        // Imp- Each buffer is already in sequence order, a k-way merge restores the global order
+        while(true) {
+            Drained min = null;
+            for(int i = 0; i < count; i++) {
+                Drained candidate = drained[i];
+                if(candidate.next < candidate.size && (min == null || candidate.sequences[candidate.next] < min.sequences[min.next]))
+                    min = candidate;
+            }
+            if(min == null)     break;
+            int i = min.next++;
+            sink.append(min.sequences[i] + " " + min.messages[i]);
+        }
+        sink.endBatch();
+    }
+
+    @Override public LogPublisher reopen(LogSink newSink) {return new PerThreadLogWriter(newSink, capacityPerThread, flushIntervalMillis);}
+
+    @Override public void close() {
+        closed = true;
+        while(inFlight.sum() > 0)       // The writer keeps collecting, so a producer waiting on a full buffer gets in and leaves
+            Thread.yield();
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {Thread.currentThread().interrupt();}
+    }
+}
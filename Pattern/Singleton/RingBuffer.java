@@ -0,0 +1,97 @@
+package Singleton;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Imp- Bounded lock-free ring buffer (Vyukov array queue) of encoded lines, producers never take a lock
+// Every slot carries a sequence number telling whether it is free for the producer of a lap or filled for its consumer
+// Imp- Each slot owns a byte array that is reused lap after lap, so queueing a line copies bytes instead of allocating a String
+public class RingBuffer {
+    private static final int MIN_SLOT_BYTES = 128;
+    private static final int MAX_RETAINED_SLOT_BYTES = 1 << 16;     // A slot that grew past this is released after its line is consumed
+    private final byte slots[][];
+    private final int lengths[];
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();      // Next position producers claim
+    private final AtomicLong head = new AtomicLong();      // Next position consumers claim
+
+    public RingBuffer(int capacity) {
+        if(capacity < 2 || Integer.bitCount(capacity) != 1)
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        slots = new byte[capacity][];       // Allocated on a slot's first line and kept for the next laps
+        lengths = new int[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for(int i = 0; i < capacity; i++)
+            sequences.set(i, i);
+        mask = capacity - 1;
+    }
+
+    // Imp- Returns false instead of waiting when the buffer is full, the caller decides how to back off
+    public boolean offer(byte line[], int offset, int length) {
+        long position = tail.get();
+        int index;
+        while(true) {
+            index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if(difference == 0) {       // Slot is free for this lap, try to claim the position
+                if(tail.compareAndSet(position, position + 1))  break;
+                position = tail.get();
+            } else if(difference < 0)  return false;       // Consumer has not freed the slot yet, buffer is full
+            else    position = tail.get();      // Another producer won the slot, reload
+        }
+        byte slot[] = slots[index];
+        if(slot == null || slot.length < length)
+            slots[index] = slot = new byte[Math.max(MIN_SLOT_BYTES, Integer.highestOneBit(Math.max(length, 1) - 1) << 1)];
+        System.arraycopy(line, offset, slot, 0, length);
+        lengths[index] = length;
+        sequences.setRelease(index, position + 1);     // Publishes the line to the consumer
+        return true;
+    }
+
+    // Imp- Hands up to max lines to the sink straight from their slots, each slot is freed once the sink returns
+    public int drainTo(LogSink sink, int max) {
+        int count = 0;
+        int index;
+        while(count < max && (index = claim()) >= 0) {
+            try {
+                sink.append(slots[index], 0, lengths[index]);
+            } finally {release(index);}
+            count++;
+        }
+        return count;
+    }
+
+    // Discards the oldest line, false when the buffer is empty
+    public boolean skip() {
+        int index = claim();
+        if(index < 0)   return false;
+        release(index);
+        return true;
+    }
+
+    // Slot index of the oldest published line now owned by the caller, -1 when nothing is published
+    private int claim() {
+        long position = head.get();
+        while(true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - (position + 1);
+            if(difference == 0) {
+                if(head.compareAndSet(position, position + 1))  return index;
+                position = head.get();
+            } else if(difference < 0)  return -1;       // Nothing published at this position yet, buffer is empty
+            else    position = head.get();
+        }
+    }
+
+    private void release(int index) {
+        long position = sequences.get(index) - 1;       // Only the claiming consumer touches the slot until it is released
+        if(slots[index].length > MAX_RETAINED_SLOT_BYTES)
+            slots[index] = null;        // One oversized line should not pin a large array for good
+        sequences.setRelease(index, position + mask + 1);      // Frees the slot for the producer of the next lap
+    }
+
+    public int size() {return (int) Math.max(0, tail.get() - head.get());}
+
+    public int capacity() {return mask + 1;}
+}
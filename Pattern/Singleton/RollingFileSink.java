@@ -0,0 +1,164 @@
+package Singleton;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// Imp- Rolls the active file into a closed segment by size or age, segments are gzipped and pruned on a background thread
+// Closed segments are named <name>-<epoch millis>-<sequence>.log(.gz) next to the active file, so name order is age order
+public class RollingFileSink implements LogSink {
+    private static final byte LINE_SEPARATOR[] = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private final Path active;
+    private final String prefix, extension;
+    private final long maxBytes, maxAgeMillis, maxTotalBytes;
+    private final int maxSegments;
+    private final ExecutorService compressor;
+    private OutputStream out;       // null only after a failed reopen, the next append tries again
+    private long written, openedAt;
+    private int sequence;
+
+    // Imp- A limit <= 0 disables it (e.g. maxAgeMillis = 0 rolls by size only)
+    public RollingFileSink(String file, long maxBytes, long maxAgeMillis, int maxSegments, long maxTotalBytes) throws IOException {
+        this.active = Paths.get(file).toAbsolutePath();
+        String name = active.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        this.prefix = (dot < 0 ? name : name.substring(0, dot)) + "-";
+        this.extension = dot < 0 ? "" : name.substring(dot);
+        this.maxBytes = maxBytes;
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxSegments = maxSegments;
+        this.maxTotalBytes = maxTotalBytes;
+        this.compressor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "log-segment-compressor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        open();
+    }
+
+    @Override public void append(String line) {
+        byte bytes[] = line.getBytes(StandardCharsets.UTF_8);
+        append(bytes, 0, bytes.length);
+    }
+
+    @Override public synchronized void append(byte line[], int offset, int length) {
+        int total = length + LINE_SEPARATOR.length;
+        try {
+            boolean full = maxBytes > 0 && written > 0 && written + total > maxBytes;
+            boolean old = maxAgeMillis > 0 && System.currentTimeMillis() - openedAt >= maxAgeMillis;
+            if(full || old) {
+                try {
+                    roll();
+                } catch (IOException e) {e.printStackTrace();}      // The line still goes to the reopened active file
+            }
+            if(out == null)     open();
+            out.write(line, offset, length);
+            out.write(LINE_SEPARATOR);
+            written += total;
+        } catch (IOException e) {e.printStackTrace();}
+    }
+
+    @Override public synchronized void endBatch() {
+        try {
+            if(out != null)     out.flush();
+        } catch (IOException e) {e.printStackTrace();}
+    }
+
+    // Imp- The writer only pays for a close, a rename and a reopen, compression is handed to the background thread
+    // A failed rename still reopens the active file, the lines keep going there and the roll is retried after another maxBytes (or maxAgeMillis)
+    private void roll() throws IOException {
+        OutputStream closing = out;
+        out = null;     // Even a failed close leaves no closed stream behind, the next append opens the file again
+        closing.close();
+        Path segment = active.resolveSibling(prefix + System.currentTimeMillis() + "-" + String.format("%06d", sequence++) + extension);
+        boolean moved = false;
+        try {
+            Files.move(active, segment);
+            moved = true;
+        } finally {
+            open();
+            if(!moved)  written = 0;
+        }
+        compressor.execute(() -> {
+            compress(segment);
+            enforceRetention();
+        });
+    }
+
+    private void open() throws IOException {
+        out = new BufferedOutputStream(new FileOutputStream(active.toFile(), true), 1 << 16);
+        written = Files.size(active);
+        openedAt = System.currentTimeMillis();
+    }
+
+    private static void compress(Path segment) {
+        Path target = segment.resolveSibling(segment.getFileName() + ".gz");
+        try(InputStream in = Files.newInputStream(segment);
+            OutputStream gzip = new GZIPOutputStream(Files.newOutputStream(target), 1 << 16) {{def.setLevel(Deflater.BEST_SPEED);}}) {
+            in.transferTo(gzip);
+        } catch (NoSuchFileException e) {
+            return;     // Rolls outpaced the compressor and retention already deleted this queued segment
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;     // Keep the plain segment when compression fails
+        }
+        try {
+            Files.delete(segment);
+        } catch (IOException e) {e.printStackTrace();}
+    }
+
+    // Imp- Deletes the oldest closed segments until both the count and the total size limits hold
+    private void enforceRetention() {
+        List<Path> segments = new ArrayList<>();
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(active.getParent(), prefix + "*")) {
+            for(Path segment : stream)
+                segments.add(segment);
+        } catch (IOException e) {e.printStackTrace(); return;}
+        Collections.sort(segments);     // Oldest first
+        long total = 0;
+        for(Path segment : segments)
+            total += sizeOf(segment);
+        for(int i = 0; i < segments.size(); i++) {
+            boolean tooMany = maxSegments > 0 && segments.size() - i > maxSegments;
+            boolean tooBig = maxTotalBytes > 0 && total > maxTotalBytes;
+            if(!tooMany && !tooBig)     break;
+            total -= sizeOf(segments.get(i));
+            try {
+                Files.deleteIfExists(segments.get(i));
+            } catch (IOException e) {e.printStackTrace();}
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {return 0;}
+    }
+
+    // Imp- Waits for pending compressions so no half-written .gz file is left behind
+    @Override public synchronized void close() {
+        try {
+            if(out != null)     out.close();
+        } catch (IOException e) {e.printStackTrace();}
+        compressor.shutdown();
+        try {
+            compressor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {Thread.currentThread().interrupt();}
+    }
+}
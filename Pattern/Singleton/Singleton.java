@@ -1,7 +1,8 @@
 package Singleton;
 
-import java.io.FileWriter;
-import java.io.PrintWriter;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.function.Supplier;
 
 // Imp - This class behaves as a @Bean or @Configuration class (having only one instance across entire application)
 public class Singleton {
@@ -9,13 +10,35 @@ public class Singleton {
     private static volatile Singleton activeInstance;       // variable to store the active singleton instance
     public int value;
     public static final String LOG_FILE = "Singleton/application.log";
-    private PrintWriter writer;     // Print writer created
+    public static final String BINARY_LOG_FILE = "Singleton/application.binlog";
+    public static final String SPILL_LOG_FILE = "Singleton/application.spill.log";
+    public static final int DEFAULT_SAMPLE_RATE = 10;
+    public static final int DEFAULT_APPENDER_CAPACITY = 1 << 14;
+    private static final Appender NO_APPENDERS[] = {};
+    private static final ThreadLocal<LineEncoder> ENCODERS = ThreadLocal.withInitial(LineEncoder::new);     // Reused line buffer per thread
+    private volatile LogSink sink;      // Where the lines end up (buffered file stream by default)
+    private volatile LogPublisher publisher;          // Background front end (async ring, per-thread buffers), null means synchronous writes
+    private volatile BinaryLogWriter binaryWriter;    // Opened on the first structured record
+    private volatile Appender appenders[] = NO_APPENDERS;      // Copy on write, the hot path only reads the array
+    private ConsoleSink console;        // The "Log : " echo, null when switched off
+
+    // Imp- Extra destination next to the file sink, with its own queue and writer thread so it cannot slow the others down
+    private static final class Appender {
+        final LogSink sink;
+        final AsyncLogWriter queue;
+
+        Appender(LogSink sink, AsyncLogWriter queue) {
+            this.sink = sink;
+            this.queue = queue;
+        }
+    }
 
     // private constructor to prevent instantiation
     private Singleton(int value) {
         try {
-            FileWriter fileWriter = new FileWriter(LOG_FILE, true);     // Opening a file in append mode
-            writer = new PrintWriter(fileWriter, true);     // Allows auto-flush in printing
+            FileOutputStream fileStream = new FileOutputStream(LOG_FILE, true);     // Opening a file in append mode
+            sink = new StreamSink(fileStream);      // Flushed by the sink after every line
+            setConsoleEcho(true);
             this.value = value;
         } catch (Exception e) {e.printStackTrace();}
     }
@@ -30,7 +53,196 @@ public class Singleton {
         return activeInstance;      // Return the singleton instance
     }
 
-    public void log(String log) {writer.println(log); System.out.println("Log : "+log); return;}
+    // Plain calls are INFO records, skipped when the level is raised above INFO
+    public void log(String log) {log(LogLevel.INFO, log);}
+
+    public void log(CharSequence log) {log(LogLevel.INFO, log);}
+
+    public void log(String template, long a, long b) {log(LogLevel.INFO, template, a, b);}
+
+    // Imp- Zero garbage in synchronous mode, the text is encoded straight into this thread's reusable byte buffer
+    public void log(LogLevel level, CharSequence log) {
+        if(!LevelGate.isEnabled(level))     return;     // Folded to a constant comparison by the JIT
+        write(log);
+    }
+
+    // Imp- Lazy message, the supplier (and whatever concatenation it does) only runs when the level is enabled
+    public void log(LogLevel level, Supplier<? extends CharSequence> message) {
+        if(!LevelGate.isEnabled(level))     return;
+        write(message.get());
+    }
+
+    // Imp- Parameterized form, e.g. log(DEBUG, "user {} logged in from port {}", id, port), callers do not concatenate a String first
+    public void log(LogLevel level, String template, long a, long b) {
+        if(!LevelGate.isEnabled(level))     return;
+        send(stamped().appendTemplate(template, a, b));
+    }
+
+    private void write(CharSequence log) {send(stamped().append(log));}
+
+    // Imp- Every line starts with its epoch millis, LogTailer indexes and queries the file by that time
+    private static LineEncoder stamped() {return ENCODERS.get().reset().append(System.currentTimeMillis()).append(" ");}
+
+    // Imp- Every queue copies the encoded bytes into its own slots, the console echo and the async writer add no String per line
+    private void send(LineEncoder line) {
+        LogPublisher current = publisher;
+        if(current == null)     writeSync(line);
+        else if(!current.publish(line.bytes(), 0, line.length()))     // Hands the line to the background writer, no disk I/O on this thread
+            republish(current, line);
+        for(Appender appender : appenders)
+            appender.queue.publish(line.bytes(), 0, line.length());     // Refused only when the appender is being removed
+    }
+
+    // Imp- The publisher was swapped out (and closed) after this thread read it, the line goes to its successor or to the sink
+    private void republish(LogPublisher closed, LineEncoder line) {
+        for(LogPublisher next = publisher; next != null && next != closed; next = publisher) {
+            if(next.publish(line.bytes(), 0, line.length()))  return;
+            closed = next;
+        }
+        writeSync(line);
+    }
+
+    // Imp- Runtime level switch (startup flag -Dlog.level, admin command), costs a deoptimization of the callers, never a per-call read
+    public static void setLevel(LogLevel level) {LevelGate.setLevel(level);}
+
+    public static LogLevel level() {return LevelGate.level();}
+
+    // Guard for work done only to build a log line, if(Singleton.isEnabled(LogLevel.DEBUG)) {...}
+    public static boolean isEnabled(LogLevel level) {return LevelGate.isEnabled(level);}
+
+    private void writeSync(LineEncoder line) {
+        LogSink target = sink;
+        target.append(line.bytes(), 0, line.length());
+        target.endBatch();
+    }
+
+    // Imp- Interns a template such as "user {} logged in from port {}", the returned id is what structured records carry
+    public int registerEvent(String template) {return binaryWriter().register(template);}
+
+    // Imp- Structured record, the fields stay binary and the template is only rendered when the file is read
+    public void log(LogLevel level, int eventId, long... fields) {
+        if(LevelGate.isEnabled(level))  binaryWriter().write(level, eventId, fields);
+    }
+
+    private BinaryLogWriter binaryWriter() {
+        if(binaryWriter == null) {      // Same double checked locking as getInstance()
+            synchronized(this) {
+                if(binaryWriter == null) {
+                    try {
+                        binaryWriter = new BinaryLogWriter(BINARY_LOG_FILE);
+                    } catch (Exception e) {throw new IllegalStateException("Cannot open " + BINARY_LOG_FILE, e);}
+                }
+            }
+        }
+        return binaryWriter;
+    }
+
+    // Imp- Switches to asynchronous logging, capacity (power of two) bounds the lines waiting for the writer thread
+    public synchronized void enableAsync(int capacity, WaitStrategy waitStrategy) {
+        usePublisher(new AsyncLogWriter(sink, capacity, waitStrategy));
+    }
+
+    // Imp- Bounded async logging that degrades under spikes (drop, sample or spill to SPILL_LOG_FILE) instead of stalling callers
+    public synchronized void enableAsync(int capacity, WaitStrategy waitStrategy, OverflowPolicy overflowPolicy) {
+        usePublisher(new AsyncLogWriter(sink, capacity, waitStrategy, overflowPolicy, DEFAULT_SAMPLE_RATE, SPILL_LOG_FILE));
+    }
+
+    // Lines lost to the overflow policy of the current publisher
+    public long droppedLogCount() {
+        LogPublisher current = publisher;
+        return current != null ? current.droppedCount() : 0;
+    }
+
+    // Imp- Every thread appends to its own buffer (no shared lock), a writer thread collects them every flushIntervalMillis
+    public synchronized void enablePerThreadBuffers(int capacityPerThread, long flushIntervalMillis) {
+        usePublisher(new PerThreadLogWriter(sink, capacityPerThread, flushIntervalMillis));
+    }
+
+    // Imp- Adds an appender (ConsoleSink, MemoryRingSink, NullSink, a StreamSink on another file, ...) behind a bounded queue that drops when full
+    // The queue's writer blocks until a line arrives, an idle appender (the console echo) costs no wake-ups
+    public void addAppender(LogSink appender) {
+        addAppender(appender, DEFAULT_APPENDER_CAPACITY, WaitStrategy.BLOCKING, OverflowPolicy.DROP_NEWEST);
+    }
+
+    public synchronized void addAppender(LogSink appender, int capacity, WaitStrategy waitStrategy, OverflowPolicy overflowPolicy) {
+        Appender list[] = Arrays.copyOf(appenders, appenders.length + 1);
+        list[list.length - 1] = new Appender(appender, new AsyncLogWriter(appender, capacity, waitStrategy, overflowPolicy, DEFAULT_SAMPLE_RATE, SPILL_LOG_FILE));
+        appenders = list;
+    }
+
+    // Imp- Detaches the appender, its queued lines are written before the appender is closed
+    public synchronized boolean removeAppender(LogSink appender) {
+        Appender list[] = appenders;
+        for(int i = 0; i < list.length; i++) {
+            if(list[i].sink != appender)    continue;
+            Appender rest[] = new Appender[list.length - 1];
+            System.arraycopy(list, 0, rest, 0, i);
+            System.arraycopy(list, i + 1, rest, i, rest.length - i);
+            appenders = rest;
+            list[i].queue.close();
+            appender.close();
+            return true;
+        }
+        return false;
+    }
+
+    // Lines the appender lost to its overflow policy (a console that could not keep up)
+    public long droppedLogCount(LogSink appender) {
+        for(Appender current : appenders)
+            if(current.sink == appender)    return current.queue.droppedCount();
+        return 0;
+    }
+
+    // Imp- The console echo is an ordinary appender, on by default
+    public synchronized void setConsoleEcho(boolean enabled) {
+        if(enabled && console == null)
+            addAppender(console = new ConsoleSink());
+        else if(!enabled && console != null) {
+            removeAppender(console);
+            console = null;
+        }
+    }
+
+    private synchronized void usePublisher(LogPublisher newPublisher) {
+        LogPublisher old = publisher;
+        publisher = newPublisher;
+        if(old != null)     old.close();        // Lines already handed to the old front end still reach the sink
+    }
+
+    // Imp- Group commit, lines are written in batches of batchBytes or after maxDelayMillis, whichever comes first
+    public void enableGroupCommit(int batchBytes, long maxDelayMillis, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis) {
+        try {
+            useSink(new GroupCommitSink(LOG_FILE, batchBytes, maxDelayMillis, fsyncPolicy, fsyncIntervalMillis));
+        } catch (Exception e) {e.printStackTrace();}
+    }
+
+    // Imp- Memory-mapped append-only file, regionBytes are mapped at a time and the next region follows once it fills
+    public void enableMappedLog(int regionBytes) {
+        try {
+            useSink(new MappedLogSink(LOG_FILE, regionBytes));
+        } catch (Exception e) {e.printStackTrace();}
+    }
+
+    // Imp- Rolls LOG_FILE by size or age into gzipped segments, keeping at most maxSegments or maxTotalBytes of them (<= 0 = no limit)
+    public void enableRolling(long maxBytes, long maxAgeMillis, int maxSegments, long maxTotalBytes) {
+        try {
+            useSink(new RollingFileSink(LOG_FILE, maxBytes, maxAgeMillis, maxSegments, maxTotalBytes));
+        } catch (Exception e) {e.printStackTrace();}
+    }
+
+    // Imp- Replaces the active sink (startup configuration), pending async lines are drained into the old one before it is closed
+    public synchronized void useSink(LogSink newSink) {
+        LogPublisher current = publisher;
+        if(current != null) {
+            publisher = null;       // Callers fall back to the synchronous path while the writer drains
+            current.close();
+        }
+        LogSink old = sink;
+        sink = newSink;
+        old.close();
+        if(current != null)
+            publisher = current.reopen(newSink);
+    }
 
     public int getHashCode() {       // Generate and provide the hash code (when same instances the hash code are same)
         return activeInstance != null ? activeInstance.hashCode() : -1;
@@ -38,5 +250,15 @@ public class Singleton {
 
     public int value() {return value;}
 
-    public void close() {writer.close();}       // Close the writer and release the memory
+    public synchronized void close() {       // Close the writer and release the memory
+        if(publisher != null)   publisher.close();      // Drain pending lines first
+        sink.close();
+        for(Appender appender : appenders) {
+            appender.queue.close();
+            appender.sink.close();
+        }
+        appenders = NO_APPENDERS;
+        console = null;
+        if(binaryWriter != null)    binaryWriter.close();
+    }
 }
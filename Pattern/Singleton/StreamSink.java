@@ -0,0 +1,39 @@
+package Singleton;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+// Imp- Default sink, buffered bytes flushed after every synchronous line (or per drained batch in async mode)
+public class StreamSink implements LogSink {
+    private static final byte LINE_SEPARATOR[] = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private final OutputStream out;
+
+    public StreamSink(OutputStream out) {this.out = new BufferedOutputStream(out, 1 << 16);}
+
+    @Override public void append(String line) {
+        byte bytes[] = line.getBytes(StandardCharsets.UTF_8);
+        append(bytes, 0, bytes.length);
+    }
+
+    // Imp- Synchronized so that the line and its separator of concurrent callers never interleave
+    @Override public synchronized void append(byte line[], int offset, int length) {
+        try {
+            out.write(line, offset, length);
+            out.write(LINE_SEPARATOR);
+        } catch (IOException e) {e.printStackTrace();}
+    }
+
+    @Override public synchronized void endBatch() {
+        try {
+            out.flush();
+        } catch (IOException e) {e.printStackTrace();}
+    }
+
+    @Override public synchronized void close() {
+        try {
+            out.close();
+        } catch (IOException e) {e.printStackTrace();}
+    }
+}
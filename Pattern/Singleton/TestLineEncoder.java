@@ -0,0 +1,27 @@
+package Singleton;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class TestLineEncoder {     // Regression check, encoded bytes must equal String.getBytes(UTF_8) around the buffer boundary
+    public static void main(String[] args) {
+        String samples[] = {"\u00E9", "\u20AC", "\uD83D\uDE00", "\uD800"};      // 2, 3 and 4 byte characters and an unpaired surrogate
+        int failures = 0;
+        LineEncoder line = new LineEncoder();
+        for(String sample : samples) {
+            for(int padding = 200; padding <= 300; padding++) {
+                String text = sample + "x".repeat(padding);
+                if(!matches(line.reset().append(text), text))   failures++;
+                if(!matches(line.reset().appendTemplate(sample.repeat(120) + " {} " + "y".repeat(padding), 7, 8), sample.repeat(120) + " 7 " + "y".repeat(padding)))
+                    failures++;
+                line = new LineEncoder();       // Fresh 256 byte buffer, so every case starts at the boundary again
+            }
+        }
+        System.out.println(failures == 0 ? "LineEncoder OK" : failures + " LineEncoder failures");
+        if(failures != 0)   System.exit(1);
+    }
+
+    private static boolean matches(LineEncoder line, String expected) {
+        return Arrays.equals(Arrays.copyOf(line.bytes(), line.length()), expected.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,22 @@
+package Singleton;
+
+import java.util.concurrent.locks.LockSupport;
+
+// Imp - How a thread waits when the ring buffer is empty (writer) or full (producers), trading CPU for wake-up latency
+public enum WaitStrategy {
+    BUSY_SPIN,      // Lowest latency, burns a full core
+    YIELD,          // Gives the core to other runnable threads between checks
+    PARK,           // Sleeps briefly, cheap on CPU but adds up to PARK_NANOS of latency
+    BLOCKING;       // Writer sleeps until a producer unparks it (no wake-ups while idle), producers on a full ring park like PARK
+
+    public static final long PARK_NANOS = 100_000;
+    public static final long BLOCKING_TIMEOUT_NANOS = 1_000_000_000;       // Upper bound of one blocking wait, a safety net only
+
+    public void idle() {
+        switch(this) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELD -> Thread.yield();
+            case PARK, BLOCKING -> LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package Strategy;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Imp- Cost model behind the automatic routing mode, keeps online latency statistics per (input size, strategy)
+// Statistics are per size bucket : choose() reads them without locking, record() drops the sample when the bucket is busy
+public class AdaptiveRouter {
+    private static final int SIZE_BUCKETS = 32;         // Inputs are grouped by floor(log2(n)) since ns/element changes with size
+    private static final double ALPHA = 0.125;          // EWMA gain of the mean (same gains as the TCP RTT estimator)
+    private static final double BETA = 0.25;            // EWMA gain of the mean deviation
+    private static final double DEVIATION_WEIGHT = 4;   // Score = mean + 4 * deviation, penalises strategies with a jittery tail
+    private static final double EXPLORE_COST_LIMIT = 2; // Only strategies predicted at most 2x slower than the best are re-measured
+    public static final int DEFAULT_EXPLORE_PERIOD = 64;
+
+    private final RoutingType types[] = RoutingType.values();
+    private final Bucket buckets[] = new Bucket[SIZE_BUCKETS];
+    private final int cores;
+    private final int explorePeriod;
+
+    // Imp- Statistics of one size bucket, a stale read in choose() only costs one less than ideal routing decision
+    private static final class Bucket {
+        final double meanNanos[], deviationNanos[];     // EWMA of ns per element and of |sample - mean|
+        final long lastSampled[];                       // Call number of the latest sample, 0 = never measured
+        final AtomicLong calls = new AtomicLong();
+        final ReentrantLock lock = new ReentrantLock();
+
+        Bucket(int types) {
+            meanNanos = new double[types];
+            deviationNanos = new double[types];
+            lastSampled = new long[types];
+        }
+    }
+
+    public AdaptiveRouter() {this(Runtime.getRuntime().availableProcessors(), DEFAULT_EXPLORE_PERIOD);}
+
+    public AdaptiveRouter(int cores, int explorePeriod) {
+        if(explorePeriod < 1)
+            throw new IllegalArgumentException("Explore period must be positive");
+        this.cores = cores;
+        this.explorePeriod = explorePeriod;
+        for(int i = 0; i < SIZE_BUCKETS; i++)
+            buckets[i] = new Bucket(types.length);
+    }
+
+    // Imp- Picks the routing for an input of the given size among the registered routes (indexed by ordinal, null = absent)
+    public RoutingType choose(int size, Strategy routes[]) {
+        Bucket bucket = buckets[bucket(size)];
+        long call = bucket.calls.incrementAndGet();
+        RoutingType best = null;
+        double bestScore = Double.MAX_VALUE;
+        for(RoutingType type : types) {
+            if(!eligible(type, routes))     continue;
+            int t = type.ordinal();
+            if(bucket.lastSampled[t] == 0)      // Never measured for this size yet, measure it first
+                return type;
+            double score = score(bucket, t);
+            if(score < bestScore) {bestScore = score; best = type;}
+        }
+        if(best == null)
+            throw new IllegalArgumentException("No strategy available");
+        if(call % explorePeriod != 0)   return best;
+        // Imp- Periodically re-measure the least recently sampled strategy whose predicted cost stays close to the best,
+        // a strategy known to be far slower is never sent live traffic just to refresh its numbers
+        RoutingType stalest = null;
+        for(RoutingType type : types) {
+            if(type == best || !eligible(type, routes))     continue;
+            int t = type.ordinal();
+            if(bucket.meanNanos[t] > EXPLORE_COST_LIMIT * bucket.meanNanos[best.ordinal()])     continue;     // Predicted cost, the mean
+            if(stalest == null || bucket.lastSampled[t] < bucket.lastSampled[stalest.ordinal()])
+                stalest = type;
+        }
+        return stalest != null ? stalest : best;
+    }
+
+    private boolean eligible(RoutingType type, Strategy routes[]) {
+        Strategy strategy = routes[type.ordinal()];
+        if(strategy == null || !strategy.preservesInput())      // In-place routes would reorder the caller's array
+            return false;
+        if(type == RoutingType.PARALLEL && cores == 1)      // Forking cannot pay off without a second core
+            return false;
+        return type != RoutingType.SLIDING_WINDOW;      // Answers for the trailing window, never a stand-in for the whole array
+    }
+
+    private static double score(Bucket bucket, int t) {return bucket.meanNanos[t] + DEVIATION_WEIGHT * bucket.deviationNanos[t];}
+
+    // Imp- Feeds back the measured latency of one call, skipped when another thread is updating the same bucket
+    public void record(RoutingType type, int size, long elapsedNanos) {
+        Bucket bucket = buckets[bucket(size)];
+        if(!bucket.lock.tryLock())  return;     // Losing a sample is harmless, waiting on the hot path is not
+        try {
+            int t = type.ordinal();
+            double sample = (double) elapsedNanos / Math.max(size, 1);
+            if(bucket.lastSampled[t] == 0) {        // First sample seeds the estimator
+                bucket.meanNanos[t] = sample;
+                bucket.deviationNanos[t] = sample / 2;
+            } else {
+                bucket.deviationNanos[t] += BETA * (Math.abs(sample - bucket.meanNanos[t]) - bucket.deviationNanos[t]);
+                bucket.meanNanos[t] += ALPHA * (sample - bucket.meanNanos[t]);
+            }
+            bucket.lastSampled[t] = Math.max(bucket.calls.get(), 1);
+        } finally {bucket.lock.unlock();}
+    }
+
+    public double meanNanosPerElement(RoutingType type, int size) {return buckets[bucket(size)].meanNanos[type.ordinal()];}
+
+    private static int bucket(int size) {return size <= 1 ? 0 : 31 - Integer.numberOfLeadingZeros(size);}
+}
@@ -1,15 +1,35 @@
 package Strategy;
 
-import java.util.Collections;
-import java.util.PriorityQueue;
-
 // Imp- It is generally a singleton instance hence we use @Component
 public class HeapStrategy implements Strategy {
+    // Imp- One primitive heap per thread, reused across calls so steady-state calls do not allocate
+    private final ThreadLocal<IntMaxHeap> heaps = ThreadLocal.withInitial(IntMaxHeap::new);
+
     // All the objects or data will pass through one pipe or instance
     @Override public int maxElement(int nums[]) {
-        System.out.println("Performing Heap operation");
-        PriorityQueue<Integer> maxHeap = new PriorityQueue<>(Collections.reverseOrder());
-        for(int num : nums)     maxHeap.add(num);
+        if(TRACE)   System.out.println("Performing Heap operation");
+        return maxElement(nums, 0, nums.length);
+    }
+
+    @Override public int maxElement(int nums[], int from, int to) {
+        Strategy.checkRange(nums, from, to);
+        IntMaxHeap maxHeap = heaps.get();
+        maxHeap.heapify(nums, from, to);
         return maxHeap.peek();
     }
+
+    // Imp- Bounded size-k heap, only k elements are ever held instead of the whole array
+    @Override public int[] topK(int nums[], int k) {
+        Strategy.checkK(nums, k);
+        TopKHeap top = new TopKHeap(k);
+        top.offerAll(nums, 0, nums.length);
+        return top.drainDescending();
+    }
+
+    @Override public int kthLargest(int nums[], int k) {
+        Strategy.checkK(nums, k);
+        TopKHeap top = new TopKHeap(k);
+        top.offerAll(nums, 0, nums.length);
+        return top.threshold();     // Smallest of the k largest
+    }
 }
@@ -0,0 +1,72 @@
+package Strategy;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Imp- Max heap over a primitive int[] (no boxing, no comparator), meant to be reused across calls via clear()/heapify()
+public class IntMaxHeap {
+    private int heap[];
+    private int size;
+
+    public IntMaxHeap() {this(16);}
+
+    public IntMaxHeap(int capacity) {heap = new int[Math.max(capacity, 1)];}
+
+    // Imp- Floyd bottom-up build, O(n) instead of the O(n log n) of n pushes
+    public void heapify(int nums[], int from, int to) {
+        size = to - from;
+        ensureCapacity(size);
+        System.arraycopy(nums, from, heap, 0, size);
+        for(int i = (size >>> 1) - 1; i >= 0; i--)      // Leaves are already heaps, sift down every internal node
+            siftDown(i);
+    }
+
+    public void heapify(int nums[]) {heapify(nums, 0, nums.length);}
+
+    public void push(int value) {
+        ensureCapacity(size + 1);
+        int i = size++;
+        while(i > 0) {      // Sift up, moving smaller parents down instead of swapping
+            int parent = (i - 1) >>> 1;
+            if(heap[parent] >= value)   break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    public int peek() {
+        if(size == 0)   throw new NoSuchElementException("Heap is empty");
+        return heap[0];
+    }
+
+    public int poll() {
+        int top = peek();
+        heap[0] = heap[--size];
+        if(size > 0)    siftDown(0);
+        return top;
+    }
+
+    public int size() {return size;}
+
+    public boolean isEmpty() {return size == 0;}
+
+    public void clear() {size = 0;}     // Keeps the backing array for the next use
+
+    private void siftDown(int i) {
+        int value = heap[i], half = size >>> 1;
+        while(i < half) {       // Nodes below half have at least one child
+            int child = 2 * i + 1, right = child + 1;
+            if(right < size && heap[right] > heap[child])   child = right;
+            if(value >= heap[child])    break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if(capacity > heap.length)
+            heap = Arrays.copyOf(heap, Math.max(capacity, heap.length + (heap.length >> 1)));
+    }
+}
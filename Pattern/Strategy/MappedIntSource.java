@@ -0,0 +1,57 @@
+package Strategy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Imp- Binary file of little-endian ints read through memory mapping, sized in long so it may hold more than 2^31 elements
+// One MappedByteBuffer is limited to 2 GB, the file is therefore exposed as consecutive windows of at most windowInts ints
+public class MappedIntSource implements Closeable {
+    public static final int WINDOW_INTS = 1 << 28;     // 1 GB per mapping
+    private final FileChannel channel;
+    private final long size;
+    private final int windowInts;
+
+    public MappedIntSource(Path file) throws IOException {this(file, WINDOW_INTS);}
+
+    public MappedIntSource(Path file, int windowInts) throws IOException {
+        if(windowInts < 1 || windowInts > Integer.MAX_VALUE / Integer.BYTES)
+            throw new IllegalArgumentException("Window must hold between 1 and " + Integer.MAX_VALUE / Integer.BYTES + " ints");
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        long bytes = channel.size();
+        if(bytes % Integer.BYTES != 0) {
+            channel.close();
+            throw new IllegalArgumentException("File size " + bytes + " is not a multiple of " + Integer.BYTES + " bytes");
+        }
+        this.size = bytes / Integer.BYTES;
+        this.windowInts = windowInts;
+    }
+
+    // Number of ints in the file
+    public long size() {return size;}
+
+    public int windowCount() {return (int) ((size + windowInts - 1) / windowInts);}
+
+    // Imp- Window index as an IntBuffer, mapped on demand (read only), the mapping is released once the buffer is garbage collected
+    public IntBuffer window(int index) {
+        if(index < 0 || index >= windowCount())
+            throw new IndexOutOfBoundsException("Window " + index + " out of bounds for " + windowCount() + " windows");
+        long first = (long) index * windowInts;
+        int length = (int) Math.min(windowInts, size - first);
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, first * Integer.BYTES, (long) length * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        } catch (IOException e) {throw new UncheckedIOException(e);}
+    }
+
+    @Override public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {e.printStackTrace();}
+    }
+}
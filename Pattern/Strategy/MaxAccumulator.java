@@ -0,0 +1,20 @@
+package Strategy;
+
+// Imp- Streaming counterpart of Strategy, values are fed as they arrive (socket, FastReader, ...) and never held as a whole array
+public interface MaxAccumulator {
+    public void accept(int value);
+
+    // Imp- One chunk chunk[offset, offset + length), the chunk may be reused by the caller right after the call
+    public default void accept(int chunk[], int offset, int length) {
+        if(offset < 0 || length < 0 || offset > chunk.length - length)
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length) + ") out of bounds for length " + chunk.length);
+        for(int i = offset; i < offset + length; i++)
+            accept(chunk[i]);
+    }
+
+    // Values accepted so far
+    public long count();
+
+    // Imp- Maximum of what was accepted so far (intermediate results are allowed), fails before the first value
+    public int result();
+}
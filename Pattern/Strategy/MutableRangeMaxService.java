@@ -0,0 +1,7 @@
+package Strategy;
+
+// Imp- Range maximum over elements that change, every update keeps the index consistent for the next query
+public interface MutableRangeMaxService extends RangeMaxService {
+    // Imp- Sets element index to value
+    public void update(int index, int value);
+}
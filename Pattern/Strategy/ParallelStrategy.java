@@ -0,0 +1,119 @@
+package Strategy;
+
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+// Imp- It is generally a singleton instance hence we use @Component
+public class ParallelStrategy implements Strategy {
+    public static final int DEFAULT_THRESHOLD = 1 << 16;       // Below this many elements a single thread is faster than forking
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelStrategy() {this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);}
+
+    // Imp- Pool and cutoff are injected so that the bean can be tuned per deployment (e.g. a dedicated pool via @Bean)
+    public ParallelStrategy(ForkJoinPool pool, int threshold) {
+        if(threshold < 1)
+            throw new IllegalArgumentException("Threshold must be positive");
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    // All the objects or data will pass through one pipe or instance
+    @Override public int maxElement(int nums[]) {
+        if(TRACE)   System.out.println("Performing Parallel operation");
+        return maxElement(nums, 0, nums.length);
+    }
+
+    @Override public int maxElement(int nums[], int from, int to) {
+        Strategy.checkRange(nums, from, to);
+        return run(from, to, (lo, hi) -> max(nums, lo, hi), Math::max);
+    }
+
+    // Imp- Leaves read the shared buffer with absolute gets only, so no task changes its position and no copy is made
+    @Override public int maxElement(IntBuffer nums) {
+        int from = nums.position(), to = nums.limit();
+        if(from == to)
+            throw new IllegalArgumentException("Empty array entered");
+        return run(from, to, (lo, hi) -> max(nums, lo, hi), Math::max);
+    }
+
+    // Imp- Chunks above the threshold are split over the pool, smaller ones stay on the accepting thread
+    @Override public MaxAccumulator accumulator() {return new RunningMax(this);}
+
+    // Imp- Every leaf keeps its own bounded top-k heap, the partial heaps are merged on the way up
+    @Override public int[] topK(int nums[], int k) {
+        Strategy.checkK(nums, k);
+        return run(0, nums.length, (from, to) -> {
+            TopKHeap top = new TopKHeap(k);
+            top.offerAll(nums, from, to);
+            return top;
+        }, (left, right) -> {left.offerAll(right); return left;}).drainDescending();
+    }
+
+    @Override public int[] minMax(int nums[]) {
+        if(nums.length == 0)
+            throw new IllegalArgumentException("Empty array entered");
+        return run(0, nums.length, (from, to) -> {
+            int min = nums[from], max = nums[from];
+            for(int i = from + 1; i < to; i++) {
+                min = Math.min(min, nums[i]);
+                max = Math.max(max, nums[i]);
+            }
+            return new int[] {min, max};
+        }, (left, right) -> new int[] {Math.min(left[0], right[0]), Math.max(left[1], right[1])});
+    }
+
+    private <T> T run(int from, int to, Leaf<T> leaf, BinaryOperator<T> merge) {
+        if(to - from <= threshold)      // Small inputs stay on the calling thread
+            return leaf.compute(from, to);
+        return pool.invoke(new RangeTask<>(from, to, threshold, leaf, merge));
+    }
+
+    private static int max(int nums[], int from, int to) {
+        int max = nums[from];
+        for(int i = from + 1; i < to; i++)
+            max = Math.max(max, nums[i]);
+        return max;
+    }
+
+    private static int max(IntBuffer nums, int from, int to) {
+        int max = nums.get(from);
+        for(int i = from + 1; i < to; i++)
+            max = Math.max(max, nums.get(i));
+        return max;
+    }
+
+    // Sequential work done on one chunk [from, to)
+    private interface Leaf<T> {
+        T compute(int from, int to);
+    }
+
+    // Imp- Each task halves its range until it is below the cutoff, then the partial results are merged on the way up
+    private static final class RangeTask<T> extends RecursiveTask<T> {
+        private static final long serialVersionUID = 1L;
+        private final int from, to, threshold;
+        private final transient Leaf<T> leaf;
+        private final transient BinaryOperator<T> merge;
+
+        RangeTask(int from, int to, int threshold, Leaf<T> leaf, BinaryOperator<T> merge) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.leaf = leaf;
+            this.merge = merge;
+        }
+
+        @Override protected T compute() {
+            if(to - from <= threshold)
+                return leaf.compute(from, to);
+            int mid = (from + to) >>> 1;
+            RangeTask<T> left = new RangeTask<>(from, mid, threshold, leaf, merge);
+            left.fork();        // Left half is pushed to the work queue for an idle worker to steal
+            T right = new RangeTask<>(mid, to, threshold, leaf, merge).compute();
+            return merge.apply(left.join(), right);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package Strategy;
+
+import java.util.Arrays;
+
+// Imp- It is generally a singleton instance hence we use @Component
+// Imp- Introselect : quickselect on a scratch copy, falling back to a guaranteed O(n log n) sort when partitioning degenerates
+public class QuickSelectStrategy implements Strategy {
+    private final ScratchBuffer scratch = new ScratchBuffer();
+
+    // All the objects or data will pass through one pipe or instance
+    @Override public int maxElement(int nums[]) {
+        if(TRACE)   System.out.println("Performing Quick select operation");
+        return maxElement(nums, 0, nums.length);
+    }
+
+    @Override public int maxElement(int nums[], int from, int to) {
+        Strategy.checkRange(nums, from, to);
+        int n = to - from;
+        int work[] = scratch.copyOf(nums, from, to);
+        select(work, n, n - 1);
+        return work[n - 1];
+    }
+
+    // Imp- Expected O(n), the caller's array is never reordered
+    @Override public int kthLargest(int nums[], int k) {
+        Strategy.checkK(nums, k);
+        int n = nums.length;
+        int work[] = scratch.copyOf(nums, 0, n);
+        select(work, n, n - k);
+        return work[n - k];
+    }
+
+    // Imp- After selecting position n-k the k largest sit (unordered) in [n-k, n), only that segment gets sorted
+    @Override public int[] topK(int nums[], int k) {
+        Strategy.checkK(nums, k);
+        int n = nums.length;
+        int work[] = scratch.copyOf(nums, 0, n);
+        select(work, n, n - k);
+        Arrays.sort(work, n - k, n);
+        int top[] = new int[k];
+        for(int i = 0; i < k; i++)
+            top[i] = work[n - 1 - i];
+        return top;
+    }
+
+    // Moves the element of rank target (0 based, ascending) into place within a[0, n)
+    private static void select(int a[], int n, int target) {
+        int lo = 0, hi = n - 1;
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(n));       // 2 * log2(n) rounds before giving up on quickselect
+        while(lo < hi) {
+            if(depthLimit-- == 0) {     // Adversarial input, sort the remaining range instead
+                Arrays.sort(a, lo, hi + 1);
+                return;
+            }
+            int pivot = medianOfThree(a[lo], a[(lo + hi) >>> 1], a[hi]);
+            // Imp- Three-way partition [< pivot | == pivot | > pivot], keeps duplicate-heavy inputs linear
+            int lt = lo, i = lo, gt = hi;
+            while(i <= gt) {
+                if(a[i] < pivot)        swap(a, lt++, i++);
+                else if(a[i] > pivot)   swap(a, i, gt--);
+                else    i++;
+            }
+            if(target < lt)         hi = lt - 1;
+            else if(target > gt)    lo = gt + 1;
+            else    return;         // Target falls in the run of pivot values
+        }
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void swap(int a[], int i, int j) {
+        int temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+}
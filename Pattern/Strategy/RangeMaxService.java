@@ -0,0 +1,27 @@
+package Strategy;
+
+// Imp- Indexed maximum over an array that stays in place, queries cost O(log n) or O(1) instead of a full maxElement pass
+// Read-only view, indexes that accept updates are MutableRangeMaxService
+public interface RangeMaxService {
+    // Imp- Maximum of the elements [from, to)
+    public int rangeMax(int from, int to);
+
+    public int get(int index);
+
+    public int size();
+
+    public default int max() {return rangeMax(0, size());}
+
+    // Imp- Sparse table for elements that never change, O(1) queries for n log n memory
+    public static RangeMaxService of(int nums[]) {return new SparseTableMax(nums);}
+
+    // Imp- Segment tree for elements that will change, the returned type is the one that can update
+    public static MutableRangeMaxService mutable(int nums[]) {return new SegmentTreeMax(nums);}
+
+    public static void checkRange(int size, int from, int to) {
+        if(from < 0 || to > size || from > to)
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + size);
+        if(from == to)
+            throw new IllegalArgumentException("Empty range entered");
+    }
+}
@@ -1,6 +1,28 @@
 package Strategy;
 
-// Imp - Enum to store the predefined Routings (heaps / arrays)
+// Imp - Enum to store the predefined Routings (heaps / arrays / vectors / fork-join / selection / rolling window)
 public enum RoutingType {
-    HEAPIFY, SORTING
+    HEAPIFY, SORTING, VECTOR, PARALLEL, QUICKSELECT, SLIDING_WINDOW;
+
+    private static final RoutingType VALUES[] = values();      // values() clones the array on every call, so it is cached once
+
+    // Imp- Case-insensitive name lookup without toUpperCase()/valueOf(), returns null for an unknown name instead of throwing
+    public static RoutingType lookup(CharSequence name) {
+        for(RoutingType type : VALUES)
+            if(matches(type.name(), name))
+                return type;
+        return null;
+    }
+
+    private static boolean matches(String constant, CharSequence name) {
+        if(constant.length() != name.length())
+            return false;
+        for(int i = 0; i < constant.length(); i++) {
+            char c = name.charAt(i);
+            if(c >= 'a' && c <= 'z')    c -= 'a' - 'A';     // Constants are upper case ASCII, only letters need folding
+            if(c != constant.charAt(i))
+                return false;
+        }
+        return true;
+    }
 }
@@ -0,0 +1,41 @@
+package Strategy;
+
+// Imp- Running maximum, O(1) memory however long the stream is, chunks are reduced by the owning strategy when one is given
+public class RunningMax implements MaxAccumulator {
+    private final Strategy chunkStrategy;       // null means a plain scalar scan
+    private int max = Integer.MIN_VALUE;
+    private long count;
+
+    public RunningMax() {this(null);}
+
+    // Imp- Chunks go through chunkStrategy.maxElement(chunk, from, to), e.g. the vector loop, so it must not reorder the chunk
+    public RunningMax(Strategy chunkStrategy) {this.chunkStrategy = chunkStrategy;}
+
+    @Override public void accept(int value) {
+        if(value > max)     max = value;
+        count++;
+    }
+
+    @Override public void accept(int chunk[], int offset, int length) {
+        if(chunkStrategy == null || length == 0) {
+            MaxAccumulator.super.accept(chunk, offset, length);
+            return;
+        }
+        max = Math.max(max, chunkStrategy.maxElement(chunk, offset, offset + length));
+        count += length;
+    }
+
+    @Override public long count() {return count;}
+
+    @Override public int result() {
+        if(count == 0)
+            throw new IllegalStateException("No element accepted");
+        return max;
+    }
+
+    // Starts a new stream on the same instance
+    public void reset() {
+        max = Integer.MIN_VALUE;
+        count = 0;
+    }
+}
@@ -0,0 +1,17 @@
+package Strategy;
+
+// Imp- Per-thread reusable int[] so that working copies of the caller's data do not allocate in steady state
+class ScratchBuffer {
+    private final ThreadLocal<int[]> buffers = ThreadLocal.withInitial(() -> new int[16]);
+
+    // Returns this thread's buffer holding nums[from, to) at index 0 (the buffer may be longer than the range)
+    int[] copyOf(int nums[], int from, int to) {
+        int buffer[] = buffers.get();
+        if(buffer.length < to - from) {     // Grows once to the largest input this thread has seen
+            buffer = new int[Math.max(to - from, buffer.length + (buffer.length >> 1))];
+            buffers.set(buffer);
+        }
+        System.arraycopy(nums, from, buffer, 0, to - from);
+        return buffer;
+    }
+}
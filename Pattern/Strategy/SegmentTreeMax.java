@@ -0,0 +1,85 @@
+package Strategy;
+
+import java.util.concurrent.locks.StampedLock;
+
+// Imp- Bottom-up segment tree in one int[2n], leaves at [n, 2n) and node i = max(2i, 2i + 1), update and rangeMax in O(log n)
+// Writers take the write lock, readers run lock-free and only retry under the read lock when an update overlapped them
+public class SegmentTreeMax implements MutableRangeMaxService {
+    private final int tree[];
+    private final int n;
+    private final StampedLock lock = new StampedLock();
+
+    // Imp- O(n) build, nums is copied so the caller's array is never reordered or written
+    public SegmentTreeMax(int nums[]) {
+        if(nums.length == 0)
+            throw new IllegalArgumentException("Empty array entered");
+        this.n = nums.length;
+        this.tree = new int[2 * n];
+        System.arraycopy(nums, 0, tree, n, n);
+        for(int i = n - 1; i > 0; i--)
+            tree[i] = Math.max(tree[2 * i], tree[2 * i + 1]);
+    }
+
+    // Imp- Rewrites the leaf and its ancestors, stops early once an ancestor no longer changes
+    @Override public void update(int index, int value) {
+        if(index < 0 || index >= n)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + n);
+        long stamp = lock.writeLock();
+        try {
+            int i = index + n;
+            tree[i] = value;
+            for(i >>= 1; i > 0; i >>= 1) {
+                int max = Math.max(tree[2 * i], tree[2 * i + 1]);
+                if(tree[i] == max)  break;
+                tree[i] = max;
+            }
+        } finally {lock.unlockWrite(stamp);}
+    }
+
+    @Override public int rangeMax(int from, int to) {
+        RangeMaxService.checkRange(n, from, to);
+        long stamp = lock.tryOptimisticRead();
+        int max = query(from, to);
+        if(!lock.validate(stamp)) {     // An update ran meanwhile, read again while holding the lock
+            stamp = lock.readLock();
+            try {
+                max = query(from, to);
+            } finally {lock.unlockRead(stamp);}
+        }
+        return max;
+    }
+
+    // Climbs from both ends of [from, to), taking a node whenever the boundary is its right (left) child
+    private int query(int from, int to) {
+        int max = Integer.MIN_VALUE;
+        for(int lo = from + n, hi = to + n; lo < hi; lo >>= 1, hi >>= 1) {
+            if((lo & 1) == 1)   max = Math.max(max, tree[lo++]);
+            if((hi & 1) == 1)   max = Math.max(max, tree[--hi]);
+        }
+        return max;
+    }
+
+    @Override public int get(int index) {
+        if(index < 0 || index >= n)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + n);
+        return node(index + n);
+    }
+
+    @Override public int size() {return n;}
+
+    // Imp- The root covers every leaf, the whole array maximum is a single read
+    @Override public int max() {return node(1);}
+
+    // One node under the same optimistic stamp as rangeMax, a polling reader is guaranteed to see completed updates
+    private int node(int i) {
+        long stamp = lock.tryOptimisticRead();
+        int value = tree[i];
+        if(!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = tree[i];
+            } finally {lock.unlockRead(stamp);}
+        }
+        return value;
+    }
+}
@@ -0,0 +1,66 @@
+package Strategy;
+
+// Imp- Rolling maximum of the last window values, monotonic deque (values decreasing from front to back) kept in a primitive ring
+// Every value is pushed and popped at most once, so accept() is amortized O(1) and allocates nothing once the ring has grown
+public class SlidingWindowMax implements MaxAccumulator {
+    private static final int INITIAL_CAPACITY = 1 << 10;     // Large windows start small, the deque rarely holds the whole window
+    private final int window;
+    private int values[];
+    private long positions[];       // Stream position of each deque entry, tells when the front leaves the window
+    private int mask;
+    private long head, tail;        // Deque is ring[head, tail), the counters only grow and are masked on access
+    private long count;
+
+    public SlidingWindowMax(int window) {
+        if(window < 1)
+            throw new IllegalArgumentException("Window must be positive");
+        this.window = window;
+        int capacity = Integer.highestOneBit(Math.min(window, INITIAL_CAPACITY) - 1) << 1;     // Next power of two
+        this.values = new int[Math.max(capacity, 1)];
+        this.positions = new long[values.length];
+        this.mask = values.length - 1;
+    }
+
+    @Override public void accept(int value) {
+        while(tail > head && values[(int) (tail - 1) & mask] <= value)    // Smaller values can never be the maximum again
+            tail--;
+        if(tail - head == values.length)    grow();
+        values[(int) tail & mask] = value;
+        positions[(int) tail & mask] = count;
+        tail++;
+        if(positions[(int) head & mask] <= count - window)     // Front slid out, at most one entry expires per value
+            head++;
+        count++;
+    }
+
+    // Doubles the ring, the deque never holds more than window entries
+    private void grow() {
+        int size = (int) (tail - head);
+        int newValues[] = new int[values.length << 1];
+        long newPositions[] = new long[newValues.length];
+        for(int i = 0; i < size; i++) {
+            newValues[i] = values[(int) (head + i) & mask];
+            newPositions[i] = positions[(int) (head + i) & mask];
+        }
+        values = newValues;
+        positions = newPositions;
+        mask = values.length - 1;
+        head = 0;
+        tail = size;
+    }
+
+    @Override public long count() {return count;}
+
+    // Imp- Maximum of the last min(count, window) values
+    @Override public int result() {
+        if(count == 0)
+            throw new IllegalStateException("No element accepted");
+        return values[(int) head & mask];
+    }
+
+    public int window() {return window;}
+
+    public void reset() {
+        head = tail = count = 0;
+    }
+}
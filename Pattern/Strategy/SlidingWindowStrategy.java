@@ -0,0 +1,78 @@
+package Strategy;
+
+import java.nio.IntBuffer;
+
+// Imp- It is generally a singleton instance hence we use @Component
+// Imp- Rolling maximum over a fixed window, maxElement answers for the trailing window only (the latest samples of a dashboard)
+public class SlidingWindowStrategy implements Strategy {
+    private final int window;
+
+    public SlidingWindowStrategy(int window) {
+        if(window < 1)
+            throw new IllegalArgumentException("Window must be positive");
+        this.window = window;
+    }
+
+    // All the objects or data will pass through one pipe or instance
+    @Override public int maxElement(int nums[]) {
+        if(TRACE)   System.out.println("Performing Sliding window operation");
+        return maxElement(nums, 0, nums.length);
+    }
+
+    // Imp- Only the last window elements of the range are read
+    @Override public int maxElement(int nums[], int from, int to) {
+        Strategy.checkRange(nums, from, to);
+        int max = nums[to - 1];
+        for(int i = Math.max(from, to - window); i < to - 1; i++)
+            max = Math.max(max, nums[i]);
+        return max;
+    }
+
+    // Imp- Same answer for off-heap input, the last window elements of nums[position, limit)
+    @Override public int maxElement(IntBuffer nums) {
+        int from = nums.position(), to = nums.limit();
+        if(from == to)
+            throw new IllegalArgumentException("Empty array entered");
+        int max = nums.get(to - 1);
+        for(int i = Math.max(from, to - window); i < to - 1; i++)
+            max = Math.max(max, nums.get(i));
+        return max;
+    }
+
+    // Imp- Trailing window of a whole mapped file, it may start in an earlier mapping than the last one
+    public int maxElement(MappedIntSource source) {
+        int last = source.windowCount() - 1;
+        if(last < 0)
+            throw new IllegalArgumentException("Empty array entered");
+        int first = last;
+        long covered = source.window(last).remaining();
+        while(covered < window && first > 0)
+            covered += source.window(--first).remaining();
+        long skip = Math.max(0, covered - window);     // Leading ints of the first mapping that lie before the window
+        MaxAccumulator tail = accumulator();
+        for(int i = first; i <= last; i++) {
+            IntBuffer nums = source.window(i);
+            for(int j = nums.position() + (i == first ? (int) skip : 0); j < nums.limit(); j++)
+                tail.accept(nums.get(j));
+        }
+        return tail.result();
+    }
+
+    // Imp- One pass through the monotonic deque, O(n) whatever the window instead of rescanning every window
+    @Override public int[] windowMaxima(int nums[], int window) {
+        Strategy.checkWindow(nums, window);
+        SlidingWindowMax deque = new SlidingWindowMax(window);
+        int maxima[] = new int[nums.length - window + 1];
+        for(int i = 0; i < nums.length; i++) {
+            deque.accept(nums[i]);
+            if(i >= window - 1)
+                maxima[i - window + 1] = deque.result();
+        }
+        return maxima;
+    }
+
+    // Imp- Streaming form, result() is the maximum of the last window values accepted
+    @Override public MaxAccumulator accumulator() {return new SlidingWindowMax(window);}
+
+    public int window() {return window;}
+}
@@ -4,10 +4,78 @@ import java.util.Arrays;
 
 // Imp- It is generally a singleton instance hence we use @Component
 public class SortingStrategy implements Strategy {
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 20;     // Above this Arrays.parallelSort spreads the sort over the common pool
+    private final boolean preserveInput;
+    private final ScratchBuffer scratch = new ScratchBuffer();
+    private final ThreadLocal<IntMaxHeap> heaps = ThreadLocal.withInitial(IntMaxHeap::new);
+
+    public SortingStrategy() {this(false);}
+
+    // Imp- preserveInput = true sorts a per-thread scratch copy, the caller's array is left untouched (no defensive clone needed)
+    public SortingStrategy(boolean preserveInput) {this.preserveInput = preserveInput;}
+
+    @Override public boolean preservesInput() {return preserveInput;}
+
     // All the objects or data will pass through one pipe or instance
     @Override public int maxElement(int nums[]) {
-        System.out.println("Array sorting technique");
-        Arrays.sort(nums);
-        return nums[nums.length-1];
+        if(TRACE)   System.out.println("Array sorting technique");
+        int n = nums.length;
+        int sorted[] = preserveInput ? scratch.copyOf(nums, 0, n) : nums;
+        sort(sorted, 0, n);
+        return sorted[n-1];
+    }
+
+    // Imp- In-place mode only reorders nums[from, to), the rest of the (packed) array is left as it is
+    @Override public int maxElement(int nums[], int from, int to) {
+        Strategy.checkRange(nums, from, to);
+        if(preserveInput) {
+            int sorted[] = scratch.copyOf(nums, from, to);
+            sort(sorted, 0, to - from);
+            return sorted[to - from - 1];
+        }
+        sort(nums, from, to);
+        return nums[to - 1];
+    }
+
+    // Imp- Partial sort, only the top k positions are put in order (heapsort stopped after k pops) unless k is a large share of n
+    @Override public int[] topK(int nums[], int k) {
+        Strategy.checkK(nums, k);
+        int n = nums.length, top[] = new int[k];
+        if(isLargeShare(k, n)) {
+            int sorted[] = preserveInput ? scratch.copyOf(nums, 0, n) : nums;
+            sort(sorted, 0, n);
+            for(int i = 0; i < k; i++)
+                top[i] = sorted[n - 1 - i];
+            return top;
+        }
+        IntMaxHeap maxHeap = heaps.get();
+        maxHeap.heapify(nums);      // O(n) build on the heap's own copy, then O(k log n) pops
+        for(int i = 0; i < k; i++)
+            top[i] = maxHeap.poll();
+        return top;
+    }
+
+    @Override public int kthLargest(int nums[], int k) {
+        Strategy.checkK(nums, k);
+        int n = nums.length;
+        if(isLargeShare(k, n)) {
+            int sorted[] = preserveInput ? scratch.copyOf(nums, 0, n) : nums;
+            sort(sorted, 0, n);
+            return sorted[n - k];
+        }
+        IntMaxHeap maxHeap = heaps.get();
+        maxHeap.heapify(nums);
+        for(int i = 1; i < k; i++)
+            maxHeap.poll();
+        return maxHeap.peek();
+    }
+
+    // Past roughly n/8 pops the heap work exceeds a full sort
+    private static boolean isLargeShare(int k, int n) {return k >= (n >>> 3);}
+
+    // Note - parallelSort allocates its own merge buffer, acceptable since it only runs on very large inputs
+    private static void sort(int nums[], int from, int to) {
+        if(to - from >= PARALLEL_SORT_THRESHOLD)    Arrays.parallelSort(nums, from, to);
+        else    Arrays.sort(nums, from, to);
     }
 }
@@ -0,0 +1,38 @@
+package Strategy;
+
+// Imp- Static index, level k holds the maximum of every block of 2^k elements so any range is two overlapping blocks (O(1) query)
+// Costs n * log2(n) ints of memory and an O(n log n) build, meant for data that is read far more than it is rebuilt
+public class SparseTableMax implements RangeMaxService {
+    private final int table[][];
+    private final int n;
+
+    public SparseTableMax(int nums[]) {
+        if(nums.length == 0)
+            throw new IllegalArgumentException("Empty array entered");
+        this.n = nums.length;
+        int levels = 32 - Integer.numberOfLeadingZeros(n);     // floor(log2(n)) + 1
+        table = new int[levels][];
+        table[0] = nums.clone();
+        for(int k = 1; k < levels; k++) {
+            int previous[] = table[k - 1], half = 1 << (k - 1);
+            int current[] = new int[n - (1 << k) + 1];
+            for(int i = 0; i < current.length; i++)
+                current[i] = Math.max(previous[i], previous[i + half]);
+            table[k] = current;
+        }
+    }
+
+    @Override public int rangeMax(int from, int to) {
+        RangeMaxService.checkRange(n, from, to);
+        int k = 31 - Integer.numberOfLeadingZeros(to - from);      // Largest block that fits, two of them cover the range
+        return Math.max(table[k][from], table[k][to - (1 << k)]);
+    }
+
+    @Override public int get(int index) {
+        if(index < 0 || index >= n)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + n);
+        return table[0][index];
+    }
+
+    @Override public int size() {return n;}
+}
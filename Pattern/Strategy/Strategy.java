@@ -1,6 +1,95 @@
 package Strategy;
 
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
 // Imp- The function or class that will be dynamically altered
 public interface Strategy {
+    // Imp- Console trace of every call, -Dstrategy.quiet=true turns it off (static final, so the JIT folds the check away)
+    public static final boolean TRACE = !Boolean.getBoolean("strategy.quiet");
+
     public int maxElement(int nums[]);
+
+    // Imp- Maximum of nums[from, to), used by batch evaluation over many small or packed arrays
+    // The default hands a copy of the range to maxElement(int[]), so a strategy implementing only that method is still the one answering
+    // (and an in-place one cannot reorder the caller's batch), the built-in strategies override it with a trace-free loop over the range
+    // Never implement maxElement(int[]) by calling this default, the two would call each other forever
+    public default int maxElement(int nums[], int from, int to) {
+        checkRange(nums, from, to);
+        return maxElement(Arrays.copyOfRange(nums, from, to));
+    }
+
+    // Imp- Maximum of nums[position, limit) for off-heap input (a MappedIntSource window), the position is left untouched
+    public default int maxElement(IntBuffer nums) {
+        int from = nums.position(), to = nums.limit();
+        if(from == to)
+            throw new IllegalArgumentException("Empty array entered");
+        int max = nums.get(from);
+        for(int i = from + 1; i < to; i++)
+            max = Math.max(max, nums.get(i));
+        return max;
+    }
+
+    // Imp- False when maxElement may reorder the caller's array (in-place sorting), the automatic mode never routes there
+    public default boolean preservesInput() {return true;}
+
+    // Imp- Streaming form for input that arrives in chunks, heap and sorting strategies need no whole array here
+    public default MaxAccumulator accumulator() {return new RunningMax();}
+
+    // Imp- Maximum of every window nums[i, i + window), the generic form rescans each window (O(n * window))
+    // Plain scan rather than maxElement(nums, from, to), an in-place strategy would reorder the windows still to come
+    public default int[] windowMaxima(int nums[], int window) {
+        checkWindow(nums, window);
+        int maxima[] = new int[nums.length - window + 1];
+        for(int i = 0; i < maxima.length; i++) {
+            int max = nums[i];
+            for(int j = i + 1; j < i + window; j++)
+                max = Math.max(max, nums[j]);
+            maxima[i] = max;
+        }
+        return maxima;
+    }
+
+    // Imp- The k largest elements in descending order, every strategy overrides this generic copy-and-sort fallback
+    public default int[] topK(int nums[], int k) {
+        checkK(nums, k);
+        int sorted[] = nums.clone();
+        Arrays.sort(sorted);
+        int top[] = new int[k];
+        for(int i = 0; i < k; i++)
+            top[i] = sorted[sorted.length - 1 - i];
+        return top;
+    }
+
+    // Imp- k = 1 is the maximum, k = nums.length the minimum
+    public default int kthLargest(int nums[], int k) {return topK(nums, k)[k-1];}
+
+    // Imp- Both extremes in one pass, returned as {min, max}
+    public default int[] minMax(int nums[]) {
+        if(nums.length == 0)
+            throw new IllegalArgumentException("Empty array entered");
+        int min = nums[0], max = nums[0];
+        for(int num : nums) {
+            if(num < min)   min = num;
+            if(num > max)   max = num;
+        }
+        return new int[] {min, max};
+    }
+
+    public static void checkRange(int nums[], int from, int to) {
+        if(from < 0 || to > nums.length || from > to)
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + nums.length);
+        if(from == to)
+            throw new IllegalArgumentException("Empty array entered");
+    }
+
+    public static void checkWindow(int nums[], int window) {
+        if(window < 1 || window > nums.length)
+            throw new IllegalArgumentException("Window must be between 1 and " + nums.length);
+    }
+
+    public static void checkK(int nums[], int k) {
+        if(k < 1 || k > nums.length)
+            throw new IllegalArgumentException("k must be between 1 and " + nums.length);
+    }
 }
@@ -1,28 +1,129 @@
 package Strategy;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
+import Reader.FastReader;
+
 
 public class StrategyRouting {
+    public static final int STREAM_CHUNK = 1 << 14;       // Ints parsed per readInts() call in stream mode
     private final Strategy heapStrategy;
     private final Strategy sortingStrategy;
 
-    public final Map<RoutingType, Strategy> strategyMap = new HashMap<>();
+    private final Map<RoutingType, Strategy> strategies = new EnumMap<>(RoutingType.class);
+    // Imp- Read-only view of the registered routes, register() is the only way to add one (a put() would never reach routes[])
+    public final Map<RoutingType, Strategy> strategyMap = Collections.unmodifiableMap(strategies);
+    // Imp- Same routes indexed by ordinal, the hot path is a plain array load (no hashing, boxing or iterator)
+    private final Strategy routes[] = new Strategy[RoutingType.values().length];
+    private final AdaptiveRouter adaptiveRouter = new AdaptiveRouter();
 
     // Imp- Use @Qualifier annotation to direct the beans
     public StrategyRouting(Strategy heapStrategy, Strategy sortingStrategy) {
         this.heapStrategy = heapStrategy;       // Use @Qualifier("component-name-1")
         this.sortingStrategy = sortingStrategy;     // Use @Qualifier("component-name-2")
         // Imp- Map used to store and direct the control to the specific strategy instances
-        strategyMap.put(RoutingType.HEAPIFY, this.heapStrategy);
-        strategyMap.put(RoutingType.SORTING, this.sortingStrategy);
+        register(RoutingType.HEAPIFY, this.heapStrategy);
+        register(RoutingType.SORTING, this.sortingStrategy);
+    }
+
+    // Imp- Registers any further strategy bean (vector, parallel, ...) against its routing type
+    public StrategyRouting register(RoutingType type, Strategy strategy) {
+        strategies.put(type, strategy);
+        routes[type.ordinal()] = strategy;
+        return this;
     }
 
     public int evaluateStrategy(int nums[], String type) {
-        Strategy strategy = strategyMap.get(RoutingType.valueOf(type.toUpperCase()));   // Converting string to enum
+        RoutingType routingType = RoutingType.lookup(type);    // Converting string to enum without allocating
+        if(routingType == null)
+            throw new IllegalArgumentException("Wrong type entered");
+        return evaluateStrategy(nums, routingType);
+    }
+
+    // Imp- Preferred entry point, the caller already holds the enum so no name is parsed at all
+    public int evaluateStrategy(int nums[], RoutingType type) {return route(type).maxElement(nums);}
+
+    // Imp- Batch mode, one routing lookup and one trace line for the whole batch, every array runs on the calling thread
+    public int[] evaluateBatch(List<int[]> inputs, RoutingType type) {
+        Strategy strategy = route(type);
+        if(Strategy.TRACE)  System.out.println("Batch of " + inputs.size() + " arrays routed to " + type);
+        int results[] = new int[inputs.size()];
+        int i = 0;
+        for(int nums[] : inputs)
+            results[i++] = strategy.maxElement(nums, 0, nums.length);
+        return results;
+    }
+
+    // Imp- Packed batch, array i is packed[offsets[i], offsets[i+1]) so thousands of tiny arrays need no int[] each
+    public int[] evaluateBatch(int packed[], int offsets[], RoutingType type) {
+        Strategy strategy = route(type);
+        int count = offsets.length - 1;
+        if(Strategy.TRACE)  System.out.println("Packed batch of " + count + " arrays routed to " + type);
+        int results[] = new int[Math.max(count, 0)];
+        for(int i = 0; i < count; i++)
+            results[i] = strategy.maxElement(packed, offsets[i], offsets[i+1]);
+        return results;
+    }
+
+    // Imp- Maximum of every window of the given size, O(n) on the SLIDING_WINDOW route and a rescan of each window elsewhere
+    public int[] evaluateWindows(int nums[], int window, RoutingType type) {
+        Strategy strategy = route(type);
+        if(Strategy.TRACE)  System.out.println("Windows of " + window + " over " + nums.length + " elements routed to " + type);
+        return strategy.windowMaxima(nums, window);
+    }
+
+    // Imp- Maximum over a file of little-endian ints mapped window by window, the data never has to fit into an int[] or the heap
+    public int evaluateMapped(MappedIntSource source, RoutingType type) {
+        Strategy strategy = route(type);
+        int windows = source.windowCount();
+        if(windows == 0)
+            throw new IllegalArgumentException("Empty array entered");
+        if(Strategy.TRACE)  System.out.println("Mapped input of " + source.size() + " ints routed to " + type);
+        if(strategy instanceof SlidingWindowStrategy sliding)
+            return sliding.maxElement(source);      // Trailing window of the file, not a maximum of per-mapping answers
+        int max = Integer.MIN_VALUE;
+        for(int i = 0; i < windows; i++)
+            max = Math.max(max, strategy.maxElement(source.window(i)));
+        return max;
+    }
+
+    public int evaluateMapped(Path file, RoutingType type) throws IOException {
+        try(MappedIntSource source = new MappedIntSource(file)) {
+            return evaluateMapped(source, type);
+        }
+    }
+
+    // Imp- Stream mode, ints are parsed in chunks and fed to the strategy's accumulator, memory stays at one chunk whatever the input size
+    public int evaluateStream(FastReader reader, RoutingType type) {
+        MaxAccumulator accumulator = route(type).accumulator();
+        int chunk[] = new int[STREAM_CHUNK];
+        int count;
+        while((count = reader.readInts(chunk)) > 0)
+            accumulator.accept(chunk, 0, count);
+        if(accumulator.count() == 0)
+            throw new IllegalArgumentException("Empty array entered");
+        if(Strategy.TRACE)  System.out.println("Stream of " + accumulator.count() + " ints routed to " + type);
+        return accumulator.result();
+    }
+
+    private Strategy route(RoutingType type) {
+        Strategy strategy = routes[type.ordinal()];
         if(strategy == null)
             throw new IllegalArgumentException("Wrong type entered");
-        return strategy.maxElement(nums);
+        return strategy;
+    }
+
+    // Imp- Automatic mode, the strategy is picked from input size, core count and the measured latency of earlier calls
+    public int evaluateStrategy(int nums[]) {
+        RoutingType type = adaptiveRouter.choose(nums.length, routes);
+        long start = System.nanoTime();
+        int result = routes[type.ordinal()].maxElement(nums);
+        adaptiveRouter.record(type, nums.length, System.nanoTime() - start);
+        return result;
     }
 }
@@ -1,17 +1,38 @@
 package Strategy;
 
+import java.util.Arrays;
+
 import Reader.FastReader;
 
 public class TestStrategy {     // Class to test the desired code
     public static void main(String[] args) {
         FastReader fastReader = new FastReader();
         int nums[] = new int[5];
-        for(int i = 0; i < nums.length; i++)
-            nums[i] = fastReader.nextInt();
+        fastReader.readInts(nums);      // Parsed straight from the input bytes
         // Creating the strategy object and defining the available strategies
-        StrategyRouting strategyRouting = new StrategyRouting(new HeapStrategy(), new SortingStrategy());
-        // For now the the strategy selection is at run-time but can be automated by evaluating parameters like port no, active users, etc.
+        StrategyRouting strategyRouting = new StrategyRouting(new HeapStrategy(), new SortingStrategy())
+            .register(RoutingType.VECTOR, new VectorStrategy())
+            .register(RoutingType.PARALLEL, new ParallelStrategy())
+            .register(RoutingType.QUICKSELECT, new QuickSelectStrategy())
+            .register(RoutingType.SLIDING_WINDOW, new SlidingWindowStrategy(3));
+        // Strategy selection at run-time by name, the automatic mode below evaluates input size, core count and measured latency
         System.out.println(strategyRouting.evaluateStrategy(nums, "Heapify"));      // strategy selection as Heap
+        System.out.println(strategyRouting.evaluateStrategy(nums, "vector"));       // strategy selection as vector
+        System.out.println(strategyRouting.evaluateStrategy(nums, "parallel"));     // strategy selection as fork-join
+        System.out.println(strategyRouting.evaluateStrategy(nums, "quickselect"));  // strategy selection as selection
         System.out.println(strategyRouting.evaluateStrategy(nums, "sorting"));      // strategy selection as sorting
+        System.out.println(strategyRouting.evaluateStrategy(nums));                 // strategy selection automated
+        // Batch of arrays packed back to back, offsets mark where each one starts
+        System.out.println(Arrays.toString(strategyRouting.evaluateBatch(nums, new int[] {0, 2, nums.length}, RoutingType.VECTOR)));
+        // Order statistics beyond the maximum
+        System.out.println(Arrays.toString(new HeapStrategy().topK(nums, 3)));      // three largest in descending order
+        System.out.println(new QuickSelectStrategy().kthLargest(nums, 2));          // second largest
+        System.out.println(Arrays.toString(new VectorStrategy().minMax(nums)));     // minimum and maximum
+        // Rolling maximum, every window of three elements in one pass over the array
+        System.out.println(Arrays.toString(strategyRouting.evaluateWindows(nums, 3, RoutingType.SLIDING_WINDOW)));
+        // Indexed maximum over data that keeps changing, no full pass per change
+        MutableRangeMaxService counters = RangeMaxService.mutable(nums);
+        counters.update(0, counters.max() + 1);
+        System.out.println(counters.rangeMax(0, 2) + " " + counters.max());
     }
 }
@@ -0,0 +1,71 @@
+package Strategy;
+
+// Imp- Bounded min heap keeping the k largest values seen, O(n log k) time and O(k) memory for a top-k query
+public class TopKHeap {
+    private final int heap[];
+    private final int k;
+    private int size;
+
+    public TopKHeap(int k) {
+        if(k < 1)
+            throw new IllegalArgumentException("k must be positive");
+        this.k = k;
+        this.heap = new int[k];
+    }
+
+    public void offer(int value) {
+        if(size < k) {      // Still filling up, plain sift up
+            int i = size++;
+            while(i > 0) {
+                int parent = (i - 1) >>> 1;
+                if(heap[parent] <= value)   break;
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = value;
+        } else if(value > heap[0]) {        // Replaces the smallest of the current top k
+            heap[0] = value;
+            siftDown(0);
+        }
+    }
+
+    public void offerAll(int nums[], int from, int to) {
+        for(int i = from; i < to; i++)
+            offer(nums[i]);
+    }
+
+    public void offerAll(TopKHeap other) {
+        for(int i = 0; i < other.size; i++)
+            offer(other.heap[i]);
+    }
+
+    public boolean isFull() {return size == k;}
+
+    // Imp- Smallest kept value, anything not above it cannot enter a full heap (used to skip whole blocks)
+    public int threshold() {return heap[0];}
+
+    public int size() {return size;}
+
+    // Empties the heap, returning the kept values in descending order
+    public int[] drainDescending() {
+        int top[] = new int[size];
+        for(int i = size - 1; i >= 0; i--) {        // Popping the min fills the result from the back
+            top[i] = heap[0];
+            heap[0] = heap[--size];
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftDown(int i) {
+        int value = heap[i], half = size >>> 1;
+        while(i < half) {
+            int child = 2 * i + 1, right = child + 1;
+            if(right < size && heap[right] < heap[child])   child = right;
+            if(value <= heap[child])    break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+    }
+}
@@ -0,0 +1,90 @@
+package Strategy;
+
+import java.nio.IntBuffer;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Imp- It is generally a singleton instance hence we use @Component
+// Imp- Needs the incubator module at compile and run time (--add-modules jdk.incubator.vector)
+public class VectorStrategy implements Strategy {
+    // Widest vector shape supported by the CPU (e.g. 8 int lanes on AVX2, 16 on AVX-512)
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int CHUNK = 1 << 12;       // 16 KB of ints, stays in L1 between the bulk copy and the vector pass
+    private static final ThreadLocal<int[]> CHUNKS = ThreadLocal.withInitial(() -> new int[CHUNK]);
+
+    // All the objects or data will pass through one pipe or instance
+    @Override public int maxElement(int nums[]) {
+        if(TRACE)   System.out.println("Performing Vector operation");
+        return maxElement(nums, 0, nums.length);
+    }
+
+    @Override public int maxElement(int nums[], int from, int to) {
+        Strategy.checkRange(nums, from, to);
+        int i = from;
+        int upperBound = from + SPECIES.loopBound(to - from);     // Last index where a full vector still fits
+        IntVector maxVector = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        // Imp- Single O(n) pass, each step compares a whole vector of lanes at once
+        for(; i < upperBound; i += SPECIES.length())
+            maxVector = maxVector.max(IntVector.fromArray(SPECIES, nums, i));
+        int max = maxVector.reduceLanes(VectorOperators.MAX);
+        for(; i < to; i++)      // Scalar tail for the elements left after the last full vector
+            max = Math.max(max, nums[i]);
+        return max;
+    }
+
+    // Imp- The vector API only loads from arrays (or byte buffers), so the buffer is bulk copied chunk by chunk (a memcpy) and reduced from there
+    @Override public int maxElement(IntBuffer nums) {
+        int from = nums.position(), to = nums.limit();
+        if(from == to)
+            throw new IllegalArgumentException("Empty array entered");
+        int chunk[] = CHUNKS.get();
+        int max = Integer.MIN_VALUE;
+        for(int i = from; i < to; i += CHUNK) {
+            int length = Math.min(CHUNK, to - i);
+            nums.get(i, chunk, 0, length);      // Absolute bulk get, the buffer position never moves
+            max = Math.max(max, maxElement(chunk, 0, length));
+        }
+        return max;
+    }
+
+    // Imp- Every accepted chunk is reduced by the vector loop
+    @Override public MaxAccumulator accumulator() {return new RunningMax(this);}
+
+    // Imp- Bounded heap where a whole vector is skipped when none of its lanes beats the current k-th largest
+    @Override public int[] topK(int nums[], int k) {
+        Strategy.checkK(nums, k);
+        TopKHeap top = new TopKHeap(k);
+        top.offerAll(nums, 0, k);       // Fill the heap first so that its threshold is meaningful
+        int i = k;
+        int upperBound = i + SPECIES.loopBound(nums.length - i);
+        for(; i < upperBound; i += SPECIES.length()) {
+            IntVector block = IntVector.fromArray(SPECIES, nums, i);
+            if(block.compare(VectorOperators.GT, top.threshold()).anyTrue())
+                top.offerAll(nums, i, i + SPECIES.length());
+        }
+        top.offerAll(nums, i, nums.length);
+        return top.drainDescending();
+    }
+
+    @Override public int[] minMax(int nums[]) {
+        if(nums.length == 0)
+            throw new IllegalArgumentException("Empty array entered");
+        int i = 0;
+        int upperBound = SPECIES.loopBound(nums.length);
+        IntVector minVector = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        IntVector maxVector = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        for(; i < upperBound; i += SPECIES.length()) {      // One load feeds both lane-wise comparisons
+            IntVector block = IntVector.fromArray(SPECIES, nums, i);
+            minVector = minVector.min(block);
+            maxVector = maxVector.max(block);
+        }
+        int min = minVector.reduceLanes(VectorOperators.MIN), max = maxVector.reduceLanes(VectorOperators.MAX);
+        for(; i < nums.length; i++) {
+            min = Math.min(min, nums[i]);
+            max = Math.max(max, nums[i]);
+        }
+        return new int[] {min, max};
+    }
+}